@@ -0,0 +1,90 @@
+package com.example.cmc.loadtest;
+
+import tools.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 저장해 둔 기준 결과와 이번 결과를 시나리오별로 비교한다.
+// p99 는 기준보다 tolerance 비율 이상, 그리고 p99SlackMs 이상 느려졌을 때만 회귀로 본다.
+// 수 ms 수준의 지연에서 비율만 보면 작은 흔들림도 회귀가 되기 때문이다.
+final class Baseline {
+
+    private Baseline() {
+    }
+
+    record Report(Map<String, Object> settings, List<ScenarioResult> scenarios) {
+    }
+
+    static Map<String, Object> settings(LoadTestConfig config) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("db", config.db());
+        settings.put("data", config.perfData()
+                ? "perf:seed=" + config.perfSeed() + ",users=" + config.perfUsers()
+                + ",categories=" + config.perfCategories() + ",posts=" + config.perfPosts()
+                : "api");
+        settings.put("users", config.users());
+        settings.put("rate", config.rate());
+        settings.put("durationSeconds", config.durationSeconds());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((scenario, weight) -> mix.put(scenario.key(), weight));
+        settings.put("mix", mix);
+        return settings;
+    }
+
+    static void write(Path file, Report report) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, SeedData.JSON.writerWithDefaultPrettyPrinter().writeValueAsString(report) + "\n");
+    }
+
+    static JsonNode read(Path file) throws IOException {
+        return Files.exists(file) ? SeedData.JSON.readTree(Files.readString(file)) : null;
+    }
+
+    // 위반 사항을 문장으로 돌려준다. 비어 있으면 통과다.
+    static List<String> compare(JsonNode baseline, Report current, LoadTestConfig config) {
+        List<String> violations = new ArrayList<>();
+        for (ScenarioResult result : current.scenarios()) {
+            if (result.errorRate() > config.maxErrorRate()) {
+                violations.add(String.format("%s: 오류율 %.2f%% 가 허용치 %.2f%% 를 넘었습니다.",
+                        result.scenario(), result.errorRate() * 100, config.maxErrorRate() * 100));
+            }
+            JsonNode base = baseline == null ? null : find(baseline, result.scenario());
+            if (base == null) {
+                continue;
+            }
+
+            double baseP99 = base.get("p99Ms").asDouble();
+            if (result.p99Ms() > baseP99 * (1 + config.tolerance()) && result.p99Ms() - baseP99 > config.p99SlackMs()) {
+                violations.add(String.format("%s: p99 %.2fms 가 기준 %.2fms 보다 %.0f%% 느립니다.",
+                        result.scenario(), result.p99Ms(), baseP99, (result.p99Ms() / baseP99 - 1) * 100));
+            }
+            double baseThroughput = base.get("throughput").asDouble();
+            if (result.throughput() < baseThroughput * (1 - config.tolerance())) {
+                violations.add(String.format("%s: 처리량 %.1f req/s 가 기준 %.1f req/s 보다 %.0f%% 낮습니다.",
+                        result.scenario(), result.throughput(), baseThroughput,
+                        (1 - result.throughput() / baseThroughput) * 100));
+            }
+        }
+        return violations;
+    }
+
+    // 측정 조건이 다르면 수치를 비교하는 의미가 없다.
+    static boolean sameSettings(JsonNode baseline, Report current) {
+        return SeedData.JSON.valueToTree(current.settings()).equals(baseline.get("settings"));
+    }
+
+    private static JsonNode find(JsonNode baseline, String scenario) {
+        for (JsonNode node : baseline.get("scenarios")) {
+            if (scenario.equals(node.get("scenario").asString())) {
+                return node;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.cmc.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 가상 사용자마다 스레드 하나를 두고 가중치에 따라 시나리오를 골라 요청을 보낸다.
+// rate 가 0 이면 응답을 받자마자 다음 요청을 보내고(closed loop), 0 보다 크면 사용자 전체가 초당 rate 건이 되도록
+// 정해진 시각에 요청을 보낸다. 이때 지연 시간은 실제로 보낸 시각이 아니라 보냈어야 할 시각부터 재서
+// 서버가 밀려 요청이 늦게 나간 시간까지 포함한다(coordinated omission 보정).
+final class LoadGenerator {
+
+    // 1µs ~ 1분, 유효 숫자 3자리
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final SeedData seed;
+    private final LoadTestConfig config;
+    private final Scenario[] wheel;
+
+    LoadGenerator(HttpClient client, String baseUrl, SeedData seed, LoadTestConfig config) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.seed = seed;
+        this.config = config;
+        this.wheel = buildWheel(config.mix());
+    }
+
+    record Run(Map<Scenario, Histogram> histograms, Map<Scenario, Long> errors, double elapsedSeconds) {
+    }
+
+    Run run(int seconds, long randomSeed) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(config.users());
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.SECONDS.toNanos(seconds);
+        try {
+            List<Future<VirtualUser>> futures = new ArrayList<>(config.users());
+            for (int i = 0; i < config.users(); i++) {
+                VirtualUser user = new VirtualUser(new SplittableRandom(randomSeed + i), startedAt, i);
+                futures.add(executor.submit(() -> user.run(deadline)));
+            }
+
+            Map<Scenario, Histogram> histograms = new EnumMap<>(Scenario.class);
+            Map<Scenario, Long> errors = new EnumMap<>(Scenario.class);
+            for (Scenario scenario : config.mix().keySet()) {
+                histograms.put(scenario, newHistogram());
+                errors.put(scenario, 0L);
+            }
+            for (Future<VirtualUser> future : futures) {
+                VirtualUser user = future.get();
+                user.histograms.forEach((scenario, histogram) -> histograms.get(scenario).add(histogram));
+                user.errors.forEach((scenario, count) -> errors.merge(scenario, count, Long::sum));
+            }
+            return new Run(histograms, errors, (System.nanoTime() - startedAt) / 1_000_000_000.0);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("가상 사용자가 비정상 종료했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+
+    // 가중치만큼 시나리오를 채운 배열에서 하나를 고르면 가중치 비율대로 뽑힌다.
+    private static Scenario[] buildWheel(Map<Scenario, Integer> mix) {
+        List<Scenario> wheel = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(scenario);
+            }
+        });
+        return wheel.toArray(Scenario[]::new);
+    }
+
+    private final class VirtualUser {
+
+        private final SplittableRandom random;
+        private final Map<Scenario, Histogram> histograms = new EnumMap<>(Scenario.class);
+        private final Map<Scenario, Long> errors = new EnumMap<>(Scenario.class);
+        private final long intervalNanos;
+        private long nextSendAt;
+
+        VirtualUser(SplittableRandom random, long startedAt, int index) {
+            this.random = random;
+            this.intervalNanos = config.rate() > 0 ? TimeUnit.SECONDS.toNanos(config.users()) / config.rate() : 0;
+            // 사용자마다 첫 요청 시각을 간격 안에서 고르게 흩어 놓는다.
+            this.nextSendAt = startedAt + (intervalNanos * index) / config.users();
+        }
+
+        VirtualUser run(long deadline) {
+            while (true) {
+                long intendedAt = System.nanoTime();
+                if (intervalNanos > 0) {
+                    intendedAt = nextSendAt;
+                    nextSendAt += intervalNanos;
+                    long wait = intendedAt - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+                if (intendedAt >= deadline || Thread.currentThread().isInterrupted()) {
+                    return this;
+                }
+
+                Scenario scenario = wheel[random.nextInt(wheel.length)];
+                boolean failed;
+                try {
+                    HttpResponse<Void> response = client.send(
+                            scenario.request(baseUrl, seed, random).build(), HttpResponse.BodyHandlers.discarding());
+                    failed = response.statusCode() != scenario.expectedStatus();
+                } catch (IOException e) {
+                    failed = true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return this;
+                }
+                long micros = Math.min(HIGHEST_TRACKABLE_MICROS, (System.nanoTime() - intendedAt) / 1_000);
+                histograms.computeIfAbsent(scenario, key -> newHistogram()).recordValue(Math.max(1, micros));
+                if (failed) {
+                    errors.merge(scenario, 1L, Long::sum);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.cmc.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+// ./gradlew loadTest -P... 로 넘긴 값을 loadtest.* 시스템 속성으로 받는다.
+record LoadTestConfig(
+        String baseUrl,
+        String db,
+        String baseline,
+        int users,
+        int rate,
+        int warmupSeconds,
+        int durationSeconds,
+        Map<Scenario, Integer> mix,
+        String data,
+        long perfSeed,
+        int perfUsers,
+        int perfCategories,
+        int perfPosts,
+        int seedUsers,
+        int seedCategories,
+        int seedPosts,
+        double tolerance,
+        double p99SlackMs,
+        double maxErrorRate,
+        boolean updateBaseline,
+        Path reportDir,
+        Path baselineDir) {
+
+    static LoadTestConfig fromSystemProperties() {
+        String db = property("db", "h2");
+        return new LoadTestConfig(
+                property("base-url", ""),
+                db,
+                property("baseline", db),
+                Integer.parseInt(property("users", "16")),
+                Integer.parseInt(property("rate", "0")),
+                Integer.parseInt(property("warmup-seconds", "10")),
+                Integer.parseInt(property("duration-seconds", "30")),
+                parseMix(property("mix", "home_feed:40,category_filter:20,post_detail:25,comment_create:10,bookmark_toggle:5")),
+                property("data", "perf"),
+                Long.parseLong(property("perf-seed", "42")),
+                Integer.parseInt(property("perf-users", "2000")),
+                Integer.parseInt(property("perf-categories", "20")),
+                Integer.parseInt(property("perf-posts", "20000")),
+                Integer.parseInt(property("seed-users", "20")),
+                Integer.parseInt(property("seed-categories", "8")),
+                Integer.parseInt(property("seed-posts", "300")),
+                Double.parseDouble(property("tolerance", "0.5")),
+                Double.parseDouble(property("p99-slack-ms", "10")),
+                Double.parseDouble(property("max-error-rate", "0.01")),
+                Boolean.parseBoolean(property("update-baseline", "false")),
+                Path.of(property("report-dir", "build/reports/loadtest")),
+                Path.of(property("baseline-dir", "src/loadTest/baselines")));
+    }
+
+    // home_feed:40,post_detail:25 처럼 시나리오 이름과 가중치를 받는다.
+    static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Scenario.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 가중치가 0 보다 큰 시나리오가 없습니다: " + value);
+        }
+        return mix;
+    }
+
+    boolean embedded() {
+        return baseUrl.isBlank();
+    }
+
+    // perf 면 perf-data 프로필이 seed 로 만든 데이터를, api 면 실행할 때 공개 API 로 만든 데이터를 쓴다.
+    boolean perfData() {
+        return "perf".equals(data);
+    }
+
+    // 같은 JVM 에서 띄우는 앱의 perf-data 생성 크기. ./gradlew perfData 와 같은 -Pperf* 값을 쓰면 같은 데이터가 된다.
+    String[] perfDataArgs() {
+        return new String[]{
+                "--perf-data.exit-after-generate=false",
+                "--perf-data.seed=" + perfSeed,
+                "--perf-data.users=" + perfUsers,
+                "--perf-data.categories=" + perfCategories,
+                "--perf-data.posts=" + perfPosts};
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.cmc.loadtest;
+
+import com.example.cmc.CmcApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.JsonNode;
+
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// ./gradlew loadTest 진입점.
+// base-url 이 없으면 loadtest-h2 / loadtest-mysql 프로필로 앱을 같은 JVM 에서 띄우고 perf-data 로 데이터를 만든 뒤,
+// 워밍업 후 측정한 시나리오별 지연 시간 분포를 build/reports/loadtest 에 남긴다.
+// 저장된 기준(src/loadTest/baselines/<baseline>.json)보다 느려졌으면 0 이 아닌 코드로 끝나 빌드를 실패시킨다.
+public final class LoadTestRunner {
+
+    private static final long RANDOM_SEED = 20251019L;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+        int exitCode;
+        try {
+            String baseUrl = config.baseUrl();
+            if (config.embedded()) {
+                SpringApplicationBuilder builder = new SpringApplicationBuilder(CmcApplication.class)
+                        .properties("server.port=0");
+                // 인메모리 H2 는 매번 비어 있으므로 시작할 때 만들고, MySQL 은 ./gradlew perfData 로 미리 만들어 둔 데이터를 쓴다.
+                if (config.perfData() && "h2".equals(config.db())) {
+                    context = builder.profiles("loadtest", "loadtest-" + config.db(), "perf-data")
+                            .run(config.perfDataArgs());
+                } else {
+                    context = builder.profiles("loadtest", "loadtest-" + config.db()).run();
+                }
+                baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            }
+            exitCode = run(config, baseUrl.replaceAll("/+$", ""));
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static int run(LoadTestConfig config, String baseUrl) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        System.out.printf("대상 %s, 사용자 %d, %s, 워밍업 %ds, 측정 %ds%n", baseUrl, config.users(),
+                config.rate() > 0 ? "목표 " + config.rate() + " req/s" : "closed loop",
+                config.warmupSeconds(), config.durationSeconds());
+        SeedData seed;
+        if (config.perfData()) {
+            seed = SeedData.perf(config);
+            System.out.printf("perf-data: seed %d, 사용자 %d, 카테고리 %d, 게시글 %d%n",
+                    config.perfSeed(), config.perfUsers(), config.perfCategories(), config.perfPosts());
+        } else {
+            seed = SeedData.create(client, baseUrl, config, new SplittableRandom(RANDOM_SEED));
+            System.out.printf("시드 데이터: 사용자 %d, 카테고리 %d, 게시글 %d%n",
+                    config.seedUsers(), config.seedCategories(), config.seedPosts());
+        }
+
+        LoadGenerator generator = new LoadGenerator(client, baseUrl, seed, config);
+        if (config.warmupSeconds() > 0) {
+            generator.run(config.warmupSeconds(), RANDOM_SEED);
+        }
+        LoadGenerator.Run run = generator.run(config.durationSeconds(), RANDOM_SEED + config.users());
+
+        List<ScenarioResult> results = new ArrayList<>();
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<Scenario, Histogram> entry : run.histograms().entrySet()) {
+            long errors = run.errors().get(entry.getKey());
+            results.add(ScenarioResult.of(entry.getKey().key(), entry.getValue(), errors, run.elapsedSeconds()));
+            total.add(entry.getValue());
+            totalErrors += errors;
+        }
+        results.add(ScenarioResult.of("total", total, totalErrors, run.elapsedSeconds()));
+        Baseline.Report report = new Baseline.Report(Baseline.settings(config), results);
+
+        writeReport(config.reportDir(), run, total, report);
+        printSummary(results);
+
+        Path baselineFile = config.baselineDir().resolve(config.baseline() + ".json");
+        if (config.updateBaseline()) {
+            Baseline.write(baselineFile, report);
+            System.out.println("기준 결과를 갱신했습니다: " + baselineFile);
+            return 0;
+        }
+
+        JsonNode baseline = Baseline.read(baselineFile);
+        if (baseline == null) {
+            System.out.println("기준 결과가 없어 오류율만 확인합니다. -PupdateBaseline=true 로 만들 수 있습니다: " + baselineFile);
+        } else if (!Baseline.sameSettings(baseline, report)) {
+            System.out.println("기준 결과와 측정 조건이 달라 오류율만 확인합니다: " + baselineFile);
+            baseline = null;
+        }
+        List<String> violations = Baseline.compare(baseline, report, config);
+        if (violations.isEmpty()) {
+            System.out.println("회귀 없음");
+            return 0;
+        }
+        violations.forEach(violation -> System.out.println("회귀: " + violation));
+        return 1;
+    }
+
+    // 시나리오마다 HdrHistogram 퍼센타일 분포(.hgrm, ms 단위)를 쓰고, 요약은 summary.json 으로 남긴다.
+    private static void writeReport(Path reportDir, LoadGenerator.Run run, Histogram total, Baseline.Report report)
+            throws Exception {
+        Files.createDirectories(reportDir);
+        for (Map.Entry<Scenario, Histogram> entry : run.histograms().entrySet()) {
+            writeHistogram(reportDir.resolve(entry.getKey().key() + ".hgrm"), entry.getValue());
+        }
+        writeHistogram(reportDir.resolve("total.hgrm"), total);
+        Baseline.write(reportDir.resolve("summary.json"), report);
+        System.out.println("보고서: " + reportDir.toAbsolutePath());
+    }
+
+    private static void writeHistogram(Path file, Histogram histogram) throws Exception {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, "UTF-8")) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static void printSummary(List<ScenarioResult> results) {
+        System.out.printf("%-16s %8s %7s %10s %9s %9s %9s %9s %9s%n",
+                "scenario", "count", "errors", "req/sec", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (ScenarioResult result : results) {
+            System.out.printf("%-16s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    result.scenario(), result.count(), result.errors(), result.throughput(),
+                    result.p50Ms(), result.p90Ms(), result.p99Ms(), result.p999Ms(), result.maxMs());
+        }
+    }
+}
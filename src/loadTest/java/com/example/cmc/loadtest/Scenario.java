@@ -0,0 +1,88 @@
+package com.example.cmc.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+// 운영 트래픽을 구성하는 요청 종류. 각 요청은 미리 만든 SeedData 에서 무작위로 대상을 고른다.
+enum Scenario {
+
+    HOME_FEED("home_feed", 200) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeedData seed, RandomGenerator random) {
+            return get(baseUrl + "/api/posts/feed?size=20");
+        }
+    },
+    CATEGORY_FILTER("category_filter", 200) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeedData seed, RandomGenerator random) {
+            String mode = random.nextInt(4) == 0 ? "all" : "any";
+            return get(baseUrl + "/api/posts/feed?size=20&mode=" + mode + "&categories="
+                    + seed.randomCategoryId(random) + "," + seed.randomCategoryId(random));
+        }
+    },
+    POST_DETAIL("post_detail", 200) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeedData seed, RandomGenerator random) {
+            return get(baseUrl + "/api/posts/" + seed.randomPostId(random));
+        }
+    },
+    COMMENT_CREATE("comment_create", 201) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeedData seed, RandomGenerator random) {
+            return json(baseUrl + "/api/comments/create", "POST", Map.of(
+                    "content", "부하 테스트 댓글",
+                    "authorEmail", seed.randomUserEmail(random),
+                    "postId", seed.randomPostId(random)));
+        }
+    },
+    BOOKMARK_TOGGLE("bookmark_toggle", 200) {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeedData seed, RandomGenerator random) {
+            return json(baseUrl + "/api/bookmarks/toggle", "PUT", Map.of(
+                    "userEmail", seed.randomUserEmail(random),
+                    "postId", seed.randomPostId(random)));
+        }
+    };
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String key;
+    private final int expectedStatus;
+
+    Scenario(String key, int expectedStatus) {
+        this.key = key;
+        this.expectedStatus = expectedStatus;
+    }
+
+    abstract HttpRequest.Builder request(String baseUrl, SeedData seed, RandomGenerator random);
+
+    String key() {
+        return key;
+    }
+
+    int expectedStatus() {
+        return expectedStatus;
+    }
+
+    static Scenario fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 시나리오입니다: " + key));
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(TIMEOUT).GET();
+    }
+
+    private static HttpRequest.Builder json(String url, String method, Map<String, Object> body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(SeedData.JSON.writeValueAsString(body)));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.cmc.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+// 시나리오 하나의 측정 결과. 지연 시간은 마이크로초 단위 히스토그램에서 밀리초로 읽는다.
+record ScenarioResult(
+        String scenario,
+        long count,
+        long errors,
+        double throughput,
+        double p50Ms,
+        double p90Ms,
+        double p99Ms,
+        double p999Ms,
+        double maxMs) {
+
+    static ScenarioResult of(String scenario, Histogram histogram, long errors, double elapsedSeconds) {
+        return new ScenarioResult(
+                scenario,
+                histogram.getTotalCount(),
+                errors,
+                Math.round(histogram.getTotalCount() / elapsedSeconds * 10) / 10.0,
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(90)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getValueAtPercentile(99.9)),
+                toMillis(histogram.getMaxValue()));
+    }
+
+    double errorRate() {
+        return count == 0 ? 0 : (double) errors / count;
+    }
+
+    private static double toMillis(long micros) {
+        return Math.round(micros / 10.0) / 100.0;
+    }
+}
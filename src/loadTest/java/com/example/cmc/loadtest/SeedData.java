@@ -0,0 +1,110 @@
+package com.example.cmc.loadtest;
+
+import com.example.cmc.service.PerfDataGenerator;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+
+// 부하 대상 사용자, 카테고리, 게시글 목록. perf-data 로 만든 데이터를 쓰거나, 부하를 주기 전에 공개 API 로 만든다.
+// API 로 만들 때는 이미 데이터가 있는 DB 에서도 겹치지 않도록 이름에 실행마다 다른 접두어를 붙인다.
+final class SeedData {
+
+    static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final List<String> userEmails;
+    private final List<Long> categoryIds;
+    private final long[] postIds;
+
+    private SeedData(List<String> userEmails, List<Long> categoryIds, long[] postIds) {
+        this.userEmails = userEmails;
+        this.categoryIds = categoryIds;
+        this.postIds = postIds;
+    }
+
+    // perf-data 는 사용자 이메일이 정해져 있고 카테고리와 게시글 id 가 1부터 이어지므로 조회 없이 대상을 안다.
+    static SeedData perf(LoadTestConfig config) {
+        List<String> userEmails = new ArrayList<>(config.perfUsers());
+        for (int i = 0; i < config.perfUsers(); i++) {
+            userEmails.add(PerfDataGenerator.userEmail(i));
+        }
+        List<Long> categoryIds = LongStream.rangeClosed(1, config.perfCategories()).boxed().toList();
+        return new SeedData(userEmails, categoryIds, LongStream.rangeClosed(1, config.perfPosts()).toArray());
+    }
+
+    static SeedData create(HttpClient client, String baseUrl, LoadTestConfig config, RandomGenerator random)
+            throws IOException, InterruptedException {
+        String prefix = "lt" + Long.toString(System.currentTimeMillis(), 36);
+
+        List<String> userEmails = new ArrayList<>(config.seedUsers());
+        for (int i = 0; i < config.seedUsers(); i++) {
+            String email = prefix + "-" + i + "@loadtest.example.com";
+            post(client, baseUrl + "/api/auth/signup",
+                    Map.of("email", email, "password", "password1", "nickname", prefix + i), 201);
+            userEmails.add(email);
+        }
+
+        List<Long> categoryIds = new ArrayList<>(config.seedCategories());
+        for (int i = 0; i < config.seedCategories(); i++) {
+            categoryIds.add(post(client, baseUrl + "/api/categories/create",
+                    Map.of("name", prefix + "-category-" + i), 201).get("id").asLong());
+        }
+
+        // 게시글마다 카테고리를 1~3개 붙여 카테고리 필터의 ANY/ALL 결과가 비지 않게 한다.
+        long[] postIds = new long[config.seedPosts()];
+        for (int i = 0; i < config.seedPosts(); i++) {
+            List<Long> postCategories = new ArrayList<>();
+            int count = 1 + random.nextInt(Math.min(3, categoryIds.size()));
+            while (postCategories.size() < count) {
+                Long categoryId = categoryIds.get(random.nextInt(categoryIds.size()));
+                if (!postCategories.contains(categoryId)) {
+                    postCategories.add(categoryId);
+                }
+            }
+            postIds[i] = post(client, baseUrl + "/api/posts/create", Map.of(
+                    "title", "부하 테스트 게시글 " + i,
+                    "content", "부하 테스트 내용 ".repeat(20),
+                    "authorEmail", userEmails.get(i % userEmails.size()),
+                    "categoryIds", postCategories), 201).get("id").asLong();
+        }
+        return new SeedData(userEmails, categoryIds, postIds);
+    }
+
+    String randomUserEmail(RandomGenerator random) {
+        return userEmails.get(random.nextInt(userEmails.size()));
+    }
+
+    long randomCategoryId(RandomGenerator random) {
+        return categoryIds.get(random.nextInt(categoryIds.size()));
+    }
+
+    // 최근 게시글일수록 더 자주 읽히도록 앞쪽(오래된 글)보다 뒤쪽을 많이 고른다.
+    long randomPostId(RandomGenerator random) {
+        double skewed = Math.sqrt(random.nextDouble());
+        return postIds[Math.min(postIds.length - 1, (int) (skewed * postIds.length))];
+    }
+
+    private static JsonNode post(HttpClient client, String url, Map<String, Object> body, int expectedStatus)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("시드 데이터 생성에 실패했습니다: " + url + " " + response.statusCode() + " " + response.body());
+        }
+        return JSON.readTree(response.body());
+    }
+}
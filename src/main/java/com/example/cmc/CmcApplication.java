@@ -1,13 +1,22 @@
 package com.example.cmc;
 
+import com.example.cmc.config.NativeImageHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(NativeImageHints.class)
 public class CmcApplication {
 
+	// 시작 단계별 소요 시간을 모아 두어 /actuator/startup 과 시작 로그에서 볼 수 있게 한다.
 	public static void main(String[] args) {
-		SpringApplication.run(CmcApplication.class, args);
+		SpringApplication application = new SpringApplication(CmcApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(2048));
+		application.run(args);
 	}
 
 }
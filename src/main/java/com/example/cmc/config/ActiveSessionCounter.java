@@ -0,0 +1,29 @@
+package com.example.cmc.config;
+
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 세션이 만들어지고 만료될 때마다 더하고 빼서 현재 세션 수를 유지한다.
+// 세션은 서버 메모리에만 있으므로 시작 시점의 값은 항상 0 이다.
+@Component
+public class ActiveSessionCounter implements HttpSessionListener {
+
+    private final AtomicLong activeSessions = new AtomicLong();
+
+    @Override
+    public void sessionCreated(HttpSessionEvent event) {
+        activeSessions.incrementAndGet();
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        activeSessions.decrementAndGet();
+    }
+
+    public long getActiveSessions() {
+        return activeSessions.get();
+    }
+}
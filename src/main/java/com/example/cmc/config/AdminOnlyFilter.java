@@ -0,0 +1,31 @@
+package com.example.cmc.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 액추에이터 엔드포인트는 MVC 인터셉터를 거치지 않으므로 필터에서 SwaggerAuthInterceptor 와 같은 관리자 확인을 한다.
+public class AdminOnlyFilter extends OncePerRequestFilter {
+
+    private final SwaggerAuthInterceptor adminCheck = new SwaggerAuthInterceptor();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean allowed;
+        try {
+            allowed = adminCheck.preHandle(request, response, null);
+        } catch (IOException | ServletException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+        if (allowed) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.cmc.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // 피드 fan-out 작업용. 큐가 가득 차도 댓글을 커밋한 요청 스레드에서 실행하지 않고 잠시 뒤 다시 넣는다.
+    @Bean
+    public ThreadPoolTaskExecutor feedExecutor(@Value("${feed.fanout-threads:2}") int threads,
+                                               @Value("${feed.fanout-queue-capacity:1000}") int queueCapacity,
+                                               @Value("${feed.fanout-retry-delay-ms:1000}") long retryDelayMs,
+                                               @Value("${feed.fanout-max-deferred:10000}") int maxDeferred) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("feed-fanout-");
+        executor.setRejectedExecutionHandler(new RetryLaterPolicy("feed-fanout", retryDelayMs, maxDeferred));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.cmc.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+// 요청 처리용 풀과 배치 작업용 풀을 나눈다. 두 풀은 같은 spring.datasource 접속 정보를 쓰고
+// 풀 설정만 각각 spring.datasource.hikari.* / background.datasource.hikari.* 에서 읽는다.
+// JPA, Flyway, JdbcTemplate 은 @Primary 인 요청 풀을 쓰고, 정리/집계 작업은 backgroundDataSource 를 직접 받는다.
+@Configuration
+public class DataSourceConfig {
+
+    public static final String BACKGROUND = "backgroundDataSource";
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(BACKGROUND)
+    @ConfigurationProperties("background.datasource.hikari")
+    public HikariDataSource backgroundDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
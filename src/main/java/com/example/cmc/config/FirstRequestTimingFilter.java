@@ -0,0 +1,42 @@
+package com.example.cmc.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 첫 요청이 끝난 시점을 JVM 시작 기준으로 기록한다. 지연 초기화한 빈을 처음 만드는 비용까지 포함한 값이다.
+@Slf4j
+public class FirstRequestTimingFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    public FirstRequestTimingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!recorded.get() && recorded.compareAndSet(false, true)) {
+                long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+                TimeGauge.builder("application.first_request.time", () -> uptime, TimeUnit.MILLISECONDS)
+                        .register(meterRegistry);
+                log.info("첫 요청 처리 완료: JVM 시작부터 {}ms ({} {})", uptime, request.getMethod(), request.getRequestURI());
+            }
+        }
+    }
+}
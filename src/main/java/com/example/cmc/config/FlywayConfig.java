@@ -0,0 +1,22 @@
+package com.example.cmc.config;
+
+import db.migration.V10__BackfillCommentPaths;
+import org.springframework.boot.flyway.autoconfigure.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+// Java 마이그레이션은 db.migration 패키지에 두고 위치 스캔으로 찾는다.
+// 네이티브 이미지에는 스캔할 클래스 파일이 없으므로 그때만 직접 등록한다. JVM 에서 함께 등록하면 버전이 중복된다.
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    FlywayConfigurationCustomizer nativeImageJavaMigrations() {
+        return configuration -> {
+            if (NativeDetector.inNativeImage()) {
+                configuration.javaMigrations(new V10__BackfillCommentPaths());
+            }
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.cmc.config;
+
+import com.example.cmc.exception.TooManyRequestsException;
+import com.example.cmc.service.LoginRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 요청 본문을 읽기 전에 IP 단위 제한을 적용하여 해싱과 DB 조회 비용이 들기 전에 거절한다.
+@RequiredArgsConstructor
+public class LoginRateLimitInterceptor implements HandlerInterceptor {
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!"POST".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+
+        try {
+            loginRateLimiter.checkIp(request.getRemoteAddr());
+            return true;
+        } catch (TooManyRequestsException e) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+            response.setCharacterEncoding("UTF-8");
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write(e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.cmc.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 네이티브 이미지용 reachability 힌트. AOT 처리(processAot) 시점에 패키지를 훑어 등록한다.
+// 템플릿과 Flyway 스크립트 리소스, 컨트롤러 시그니처의 DTO, JPA 엔티티는 Spring AOT 가 이미 등록하므로
+// 여기서는 그 밖의 경로로 반사 접근되는 클래스만 다룬다.
+public class NativeImageHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "com.example.cmc";
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Thymeleaf 의 SpEL 과 SerializedResponseCache 의 JsonMapper 는 컨트롤러 시그니처에 없는 DTO 도 읽는다.
+        for (Class<?> type : scan(BASE_PACKAGE + ".dto", classLoader)) {
+            bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+        }
+
+        // Lombok 이 만든 접근자와 @IdClass 는 Hibernate 가 필드와 기본 생성자로 다룬다.
+        for (Class<?> type : scan(BASE_PACKAGE + ".entity", classLoader)) {
+            hints.reflection().registerType(type,
+                    MemberCategory.ACCESS_DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        // StartupConfig 의 지연 초기화 제외 필터가 실행 시점에 @Scheduled 메서드를 찾는다. 타입만 등록하면 메서드 조회가 가능하다.
+        for (Class<?> type : scan(BASE_PACKAGE, classLoader)) {
+            if (hasScheduledMethods(type)) {
+                hints.reflection().registerType(type);
+            }
+        }
+    }
+
+    private static List<Class<?>> scan(String basePackage, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        return scanner.findCandidateComponents(basePackage).stream()
+                .map(BeanDefinition::getBeanClassName)
+                .<Class<?>>map(className -> ClassUtils.resolveClassName(className, classLoader))
+                .toList();
+    }
+
+    private static boolean hasScheduledMethods(Class<?> type) {
+        return Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(type))
+                .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.cmc.config;
+
+import com.example.cmc.service.PerfDataGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// perf-data 프로필로 실행하면 시작할 때 성능 테스트 데이터를 만든다.
+// perf-data.exit-after-generate=true(기본값)면 만든 뒤 바로 종료하고, false 면 그 데이터로 계속 요청을 받는다.
+@Component
+@Profile("perf-data")
+@RequiredArgsConstructor
+public class PerfDataInitializer implements CommandLineRunner {
+
+    private final PerfDataGenerator perfDataGenerator;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${perf-data.exit-after-generate:true}")
+    private boolean exitAfterGenerate;
+
+    @Override
+    public void run(String... args) throws Exception {
+        perfDataGenerator.generate();
+        if (exitAfterGenerate) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
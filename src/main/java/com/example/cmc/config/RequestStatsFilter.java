@@ -0,0 +1,39 @@
+package com.example.cmc.config;
+
+import com.example.cmc.service.RequestStatsService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// 요청을 처리한 컨트롤러 메서드와 처리 시간을 RequestStatsService 에 넘긴다.
+// 시작 시각은 지역 변수로만 들고 있어 요청 속성이나 객체를 추가로 만들지 않는다.
+// SSE 처럼 비동기로 이어지는 요청은 첫 디스패치가 끝날 때까지만 잰다.
+public class RequestStatsFilter extends OncePerRequestFilter {
+
+    private final RequestStatsService requestStatsService;
+
+    public RequestStatsFilter(RequestStatsService requestStatsService) {
+        this.requestStatsService = requestStatsService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+                requestStatsService.record(handler, startedAt, System.nanoTime(), failed || response.getStatus() >= 500);
+            }
+        }
+    }
+}
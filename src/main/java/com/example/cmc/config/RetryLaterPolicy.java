@@ -0,0 +1,55 @@
+package com.example.cmc.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 큐가 가득 차 거절된 작업을 호출한 스레드(요청/커밋 스레드)에서 실행하지 않고 잠시 뒤 다시 넣는다.
+// 다시 넣을 때도 거절되면 재시도 스레드에서 이 정책이 다시 불리므로 호출한 스레드로 돌아가지 않는다.
+// 미뤄 둔 작업이 maxDeferred 를 넘거나 풀이 종료 중이면 버리고 기록한다. 재시도 스레드는 데몬이라 종료를 막지 않는다.
+@Slf4j
+class RetryLaterPolicy implements RejectedExecutionHandler {
+
+    private final String name;
+    private final long retryDelayMs;
+    private final int maxDeferred;
+    private final AtomicInteger deferred = new AtomicInteger();
+    private final ScheduledExecutorService retryScheduler;
+
+    RetryLaterPolicy(String name, long retryDelayMs, int maxDeferred) {
+        this.name = name;
+        this.retryDelayMs = retryDelayMs;
+        this.maxDeferred = maxDeferred;
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, name + "-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            log.warn("{} 풀이 종료되어 작업을 버립니다.", name);
+            return;
+        }
+        if (deferred.incrementAndGet() > maxDeferred) {
+            deferred.decrementAndGet();
+            log.warn("{} 풀의 미뤄 둔 작업이 {}건을 넘어 작업을 버립니다.", name, maxDeferred);
+            return;
+        }
+        retryScheduler.schedule(() -> {
+            deferred.decrementAndGet();
+            executor.execute(task);
+        }, retryDelayMs, TimeUnit.MILLISECONDS);
+    }
+
+    int getDeferredCount() {
+        return deferred.get();
+    }
+}
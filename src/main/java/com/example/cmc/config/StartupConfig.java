@@ -0,0 +1,83 @@
+package com.example.cmc.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@Configuration
+@Slf4j
+public class StartupConfig {
+
+    private static final int SLOWEST_STEPS = 10;
+
+    // 운영 프로필의 지연 초기화에서 빼는 빈.
+    // JPA 는 스키마 검증과 Flyway 마이그레이션을 시작 시점에 끝내야 하고, @Scheduled 빈은 만들어져야 주기 작업이 등록된다.
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (EntityManagerFactory.class.isAssignableFrom(beanType) || hasScheduledMethods(beanType));
+    }
+
+    @Bean
+    public FilterRegistrationBean<FirstRequestTimingFilter> firstRequestTimingFilter(MeterRegistry meterRegistry) {
+        return new FilterRegistrationBean<>(new FirstRequestTimingFilter(meterRegistry));
+    }
+
+    // 시작 단계에는 빈 이름이 그대로 드러나므로 관리자만 본다.
+    @Bean
+    public FilterRegistrationBean<AdminOnlyFilter> startupEndpointFilter() {
+        FilterRegistrationBean<AdminOnlyFilter> registration = new FilterRegistrationBean<>(new AdminOnlyFilter());
+        registration.addUrlPatterns("/actuator/startup");
+        return registration;
+    }
+
+    // 준비 완료 시점과 가장 오래 걸린 시작 단계를 남긴다. 단계 기록은 CmcApplication 이 BufferingApplicationStartup 으로 띄울 때만 있다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportStartup(ApplicationReadyEvent event) {
+        log.info("애플리케이션 준비 완료: {}ms (JVM 시작부터 {}ms)",
+                event.getTimeTaken().toMillis(), ManagementFactory.getRuntimeMXBean().getUptime());
+
+        ApplicationStartup applicationStartup = event.getSpringApplication().getApplicationStartup();
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+        buffering.getBufferedTimeline().getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_STEPS)
+                .forEach(timelineEvent -> log.info("시작 단계 {}ms {} {}",
+                        timelineEvent.getDuration().toMillis(),
+                        timelineEvent.getStartupStep().getName(),
+                        describe(timelineEvent.getStartupStep().getTags())));
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        return Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(ClassUtils.getUserClass(beanType)))
+                .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+    }
+
+    private static String describe(StartupStep.Tags tags) {
+        return StreamSupport.stream(tags.spliterator(), false)
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
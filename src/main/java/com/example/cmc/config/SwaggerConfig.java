@@ -2,12 +2,15 @@ package com.example.cmc.config;
 
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+// 운영 프로필에서는 ADMIN_DOCS_ENABLED 로 문서를 켰을 때만 등록한다.
 @Configuration
+@ConditionalOnBooleanProperty(name = "springdoc.api-docs.enabled", matchIfMissing = true)
 public class SwaggerConfig implements WebMvcConfigurer {
 
     @Bean
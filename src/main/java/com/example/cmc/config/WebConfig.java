@@ -0,0 +1,35 @@
+package com.example.cmc.config;
+
+import com.example.cmc.service.LoginRateLimiter;
+import com.example.cmc.service.RequestStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    // 다른 필터에서 걸린 시간까지 포함하도록 가장 먼저 실행한다.
+    @Bean
+    public FilterRegistrationBean<RequestStatsFilter> requestStatsFilter(RequestStatsService requestStatsService) {
+        FilterRegistrationBean<RequestStatsFilter> registration =
+                new FilterRegistrationBean<>(new RequestStatsFilter(requestStatsService));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new LoginRateLimitInterceptor(loginRateLimiter))
+                .addPathPatterns("/api/auth/login", "/login");
+        registry.addInterceptor(new SwaggerAuthInterceptor())
+                .addPathPatterns("/api/admin/**");
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.cmc.controller;
+
+import com.example.cmc.dto.response.AdminDashboardResponse;
+import com.example.cmc.service.AdminDashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// /api/admin/** 는 WebConfig 에서 관리자만 접근하도록 막는다.
+@RestController
+@RequestMapping("/api/admin/dashboard")
+@RequiredArgsConstructor
+public class AdminDashboardController {
+
+    private final AdminDashboardService adminDashboardService;
+
+    @GetMapping
+    public ResponseEntity<AdminDashboardResponse> getDashboard() {
+        return ResponseEntity.ok(adminDashboardService.getDashboard());
+    }
+}
@@ -2,6 +2,9 @@ package com.example.cmc.controller;
 
 import com.example.cmc.dto.request.BookmarkCreateRequest;
 import com.example.cmc.dto.response.BookmarkResponse;
+import com.example.cmc.dto.response.BookmarkSummaryResponse;
+import com.example.cmc.dto.response.BookmarkToggleResponse;
+import com.example.cmc.dto.response.CursorPageResponse;
 import com.example.cmc.service.BookmarkService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -9,8 +12,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/bookmarks")
 @RequiredArgsConstructor
@@ -24,9 +25,18 @@ public class BookmarkController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PutMapping("/toggle")
+    public ResponseEntity<BookmarkToggleResponse> toggleBookmark(@Valid @RequestBody BookmarkCreateRequest request) {
+        BookmarkToggleResponse response = bookmarkService.toggleBookmark(request);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/user/{userEmail}")
-    public ResponseEntity<List<BookmarkResponse>> getBookmarksByUser(@PathVariable String userEmail) {
-        List<BookmarkResponse> bookmarks = bookmarkService.getBookmarksByUser(userEmail);
+    public ResponseEntity<CursorPageResponse<BookmarkSummaryResponse>> getBookmarksByUser(
+            @PathVariable String userEmail,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<BookmarkSummaryResponse> bookmarks = bookmarkService.getBookmarkPage(userEmail, cursor, size);
         return ResponseEntity.ok(bookmarks);
     }
 
@@ -1,15 +1,18 @@
 package com.example.cmc.controller;
 
 import com.example.cmc.dto.request.CategoryCreateRequest;
+import com.example.cmc.dto.request.CategoryUpdateRequest;
 import com.example.cmc.dto.response.CategoryResponse;
+import com.example.cmc.repository.ResourceVersion;
 import com.example.cmc.service.CategoryService;
+import com.example.cmc.service.SerializedResponseCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/categories")
@@ -17,6 +20,7 @@ import java.util.List;
 public class CategoryController {
     
     private final CategoryService categoryService;
+    private final SerializedResponseCache serializedResponseCache;
 
     @PostMapping("/create")
     public ResponseEntity<CategoryResponse> createCategory(@Valid @RequestBody CategoryCreateRequest request) {
@@ -25,9 +29,16 @@ public class CategoryController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> getAllCategories() {
-        List<CategoryResponse> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<byte[]> getAllCategories(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        ResourceVersion version = categoryService.getCategoriesVersion();
+        if (webRequest.checkNotModified(version.eTag(), version.lastModifiedMillis())) {
+            return null;
+        }
+        SerializedResponseCache.Entry entry = serializedResponseCache.get(
+                "categories", version.eTag(), categoryService::getAllCategories);
+        return serializedResponseCache.toResponse(entry, acceptEncoding);
     }
 
     @GetMapping("/{id}")
@@ -36,6 +47,15 @@ public class CategoryController {
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping("/{id}")
+    public ResponseEntity<CategoryResponse> updateCategory(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody CategoryUpdateRequest request) {
+        CategoryResponse response = categoryService.updateCategory(id, request, VersionHeaders.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(VersionHeaders.eTag(response.getVersion())).body(response);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCategory(@PathVariable Long id) {
         categoryService.deleteCategory(id);
@@ -3,12 +3,17 @@ package com.example.cmc.controller;
 import com.example.cmc.dto.request.CommentCreateRequest;
 import com.example.cmc.dto.request.CommentUpdateRequest;
 import com.example.cmc.dto.response.CommentResponse;
+import com.example.cmc.dto.response.CommentThreadResponse;
+import com.example.cmc.repository.ResourceVersion;
 import com.example.cmc.service.CommentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,22 +31,34 @@ public class CommentController {
     }
 
     @GetMapping("/post/{postId}")
-    public ResponseEntity<List<CommentResponse>> getCommentsByPostId(@PathVariable Long postId) {
+    public ResponseEntity<List<CommentResponse>> getCommentsByPostId(@PathVariable Long postId, WebRequest webRequest) {
+        ResourceVersion version = commentService.getCommentsVersion(postId);
+        if (webRequest.checkNotModified(version.eTag(), version.lastModifiedMillis())) {
+            return null;
+        }
         List<CommentResponse> comments = commentService.getCommentsByPostId(postId);
-        return ResponseEntity.ok(comments);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(comments);
+    }
+
+    @GetMapping("/{id}/thread")
+    public ResponseEntity<CommentThreadResponse> getThread(@PathVariable Long id,
+                                                           @RequestParam(required = false) Integer maxDepth) {
+        return ResponseEntity.ok(commentService.getThread(id, maxDepth));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<CommentResponse> updateComment(
             @PathVariable Long id, 
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody CommentUpdateRequest request) {
-        CommentResponse response = commentService.updateComment(id, request);
-        return ResponseEntity.ok(response);
+        CommentResponse response = commentService.updateComment(id, request, VersionHeaders.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(VersionHeaders.eTag(response.getVersion())).body(response);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteComment(@PathVariable Long id) {
-        commentService.deleteComment(id);
+    public ResponseEntity<Void> deleteComment(@PathVariable Long id,
+                                              @RequestParam(defaultValue = "subtree") String mode) {
+        commentService.deleteComment(id, mode);
         return ResponseEntity.noContent().build();
     }
 }
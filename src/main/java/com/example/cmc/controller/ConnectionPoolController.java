@@ -0,0 +1,37 @@
+package com.example.cmc.controller;
+
+import com.example.cmc.dto.request.PoolResizeRequest;
+import com.example.cmc.dto.response.PoolStatsResponse;
+import com.example.cmc.service.ConnectionPoolService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// /api/admin/** 는 WebConfig 에서 관리자만 접근하도록 막는다.
+@RestController
+@RequestMapping("/api/admin/pools")
+@RequiredArgsConstructor
+public class ConnectionPoolController {
+
+    private final ConnectionPoolService connectionPoolService;
+
+    @GetMapping
+    public ResponseEntity<List<PoolStatsResponse>> getPools() {
+        return ResponseEntity.ok(connectionPoolService.getPools());
+    }
+
+    @GetMapping("/{name}")
+    public ResponseEntity<PoolStatsResponse> getPool(@PathVariable String name) {
+        return ResponseEntity.ok(connectionPoolService.getPool(name));
+    }
+
+    @PutMapping("/{name}")
+    public ResponseEntity<PoolStatsResponse> resizePool(
+            @PathVariable String name,
+            @Valid @RequestBody PoolResizeRequest request) {
+        return ResponseEntity.ok(connectionPoolService.resize(name, request));
+    }
+}
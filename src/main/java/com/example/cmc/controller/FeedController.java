@@ -0,0 +1,31 @@
+package com.example.cmc.controller;
+
+import com.example.cmc.dto.response.CursorPageResponse;
+import com.example.cmc.dto.response.FeedItemResponse;
+import com.example.cmc.service.AuthService;
+import com.example.cmc.service.FeedService;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/feed")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+    private final AuthService authService;
+
+    @GetMapping("/me")
+    public ResponseEntity<CursorPageResponse<FeedItemResponse>> getMyFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpSession session) {
+        String userEmail = authService.getCurrentUser(session).getEmail();
+        return ResponseEntity.ok(feedService.getFeed(userEmail, cursor, size));
+    }
+}
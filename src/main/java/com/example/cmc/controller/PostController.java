@@ -2,13 +2,26 @@ package com.example.cmc.controller;
 
 import com.example.cmc.dto.request.PostCreateRequest;
 import com.example.cmc.dto.request.PostUpdateRequest;
+import com.example.cmc.dto.response.CursorPageResponse;
 import com.example.cmc.dto.response.PostResponse;
+import com.example.cmc.dto.response.RelatedPostResponse;
+import com.example.cmc.dto.response.TrendingPostResponse;
+import com.example.cmc.repository.ResourceVersion;
+import com.example.cmc.service.AuthService;
+import com.example.cmc.service.BookmarkService;
+import com.example.cmc.service.CommentStreamService;
 import com.example.cmc.service.PostService;
+import com.example.cmc.service.SerializedResponseCache;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -18,6 +31,10 @@ import java.util.List;
 public class PostController {
     
     private final PostService postService;
+    private final BookmarkService bookmarkService;
+    private final AuthService authService;
+    private final CommentStreamService commentStreamService;
+    private final SerializedResponseCache serializedResponseCache;
 
     @PostMapping("/create")
     public ResponseEntity<PostResponse> createPost(@Valid @RequestBody PostCreateRequest request) {
@@ -25,15 +42,60 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageResponse<PostResponse>> getPostFeed(
+            @RequestParam(required = false) List<Long> categories,
+            @RequestParam(defaultValue = "any") String mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpSession session) {
+        CursorPageResponse<PostResponse> page = postService.getPostFeed(categories, mode, cursor, size);
+        bookmarkService.applyBookmarkedFlags(authService.getCurrentUserEmail(session), page.getItems());
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingPostResponse>> getTrendingPosts(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<TrendingPostResponse> posts = postService.getTrendingPosts(categoryId, limit);
+        return ResponseEntity.ok(posts);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponse> getPostById(@PathVariable Long id) {
-        PostResponse response = postService.getPostById(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getPostById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        // 게시글을 불러오기 전에 집계 쿼리로 버전만 확인하고, 바뀌지 않았으면 304 로 응답한다.
+        ResourceVersion version = postService.getPostVersion(id);
+        postService.recordView(id);
+        if (webRequest.checkNotModified(version.eTag(), version.lastModifiedMillis())) {
+            return null;
+        }
+        SerializedResponseCache.Entry entry = serializedResponseCache.get(
+                "post:" + id, version.eTag(), () -> postService.getPostById(id));
+        return serializedResponseCache.toResponse(entry, acceptEncoding);
+    }
+
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<RelatedPostResponse>> getRelatedPosts(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "5") int limit) {
+        List<RelatedPostResponse> posts = postService.getRelatedPosts(id, limit);
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping(value = "/{id}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(@PathVariable Long id) {
+        postService.checkPostExists(id);
+        return commentStreamService.subscribe(id);
     }
 
     @GetMapping
-    public ResponseEntity<List<PostResponse>> getAllPosts() {
+    public ResponseEntity<List<PostResponse>> getAllPosts(HttpSession session) {
         List<PostResponse> posts = postService.getAllPosts();
+        bookmarkService.applyBookmarkedFlags(authService.getCurrentUserEmail(session), posts);
         return ResponseEntity.ok(posts);
     }
 
@@ -46,14 +108,16 @@ public class PostController {
     @PutMapping("/{id}")
     public ResponseEntity<PostResponse> updatePost(
             @PathVariable Long id, 
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody PostUpdateRequest request) {
-        PostResponse response = postService.updatePost(id, request);
-        return ResponseEntity.ok(response);
+        PostResponse response = postService.updatePost(id, request, VersionHeaders.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(VersionHeaders.eTag(response.getVersion())).body(response);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePost(@PathVariable Long id) {
         postService.deletePost(id);
+        serializedResponseCache.evict("post:" + id);
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,36 @@
+package com.example.cmc.controller;
+
+import com.example.cmc.exception.BadRequestException;
+
+// PUT 요청의 If-Match 헤더와 응답 ETag 를 엔티티 version 값으로 주고받는다.
+final class VersionHeaders {
+
+    private VersionHeaders() {
+    }
+
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        // GET 응답의 ETag 는 "{version}-..." 형태이므로 앞의 version 만 비교한다.
+        int separator = value.indexOf('-');
+        if (separator > 0) {
+            value = value.substring(0, separator);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("If-Match 헤더에는 버전 번호를 지정해야 합니다.");
+        }
+    }
+
+    // version 을 모르는 응답(If-Match 없이 수정)에는 ETag 를 붙이지 않는다.
+    static String eTag(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+}
@@ -2,6 +2,7 @@ package com.example.cmc.controller.view;
 
 import com.example.cmc.dto.request.*;
 import com.example.cmc.dto.response.*;
+import com.example.cmc.exception.TooManyRequestsException;
 import com.example.cmc.service.*;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
 
@@ -21,24 +23,31 @@ public class ViewController {
     private final PostService postService;
     private final CommentService commentService;
     private final CategoryService categoryService;
+    private final BookmarkService bookmarkService;
+    private final AdminDashboardService adminDashboardService;
 
+    private static final int HOME_PAGE_SIZE = 20;
+
+    // 필터 여부와 상관없이 같은 게시글 id 내림차순 커서 페이지로 보여 준다.
     @GetMapping
-    public String home(@RequestParam(required = false) Long categoryId, Model model, HttpSession session) {
-        List<PostResponse> posts;
+    public String home(@RequestParam(required = false) Long categoryId,
+                       @RequestParam(name = "categories", required = false) List<Long> categoryFilter,
+                       @RequestParam(defaultValue = "any") String mode,
+                       @RequestParam(required = false) String cursor,
+                       Model model, HttpSession session) {
+        List<Long> categoryIds = categoryFilter;
         if (categoryId != null) {
-            List<PostResponse> allPosts = postService.getAllPosts();
-            posts = allPosts.stream()
-                    .filter(post -> post.getCategories() != null && 
-                            post.getCategories().stream()
-                                    .anyMatch(cat -> cat.getId().equals(categoryId)))
-                    .toList();
-        } else {
-            posts = postService.getAllPosts();
+            categoryIds = List.of(categoryId);
         }
+
+        CursorPageResponse<PostResponse> page = postService.getPostFeed(categoryIds, mode, cursor, HOME_PAGE_SIZE);
+        List<PostResponse> posts = page.getItems();
+        bookmarkService.applyBookmarkedFlags(authService.getCurrentUserEmail(session), posts);
         List<CategoryResponse> categories = categoryService.getAllCategories();
         model.addAttribute("posts", posts);
         model.addAttribute("categories", categories);
         model.addAttribute("selectedCategoryId", categoryId);
+        model.addAttribute("nextPageUrl", page.isHasNext() ? nextPageUrl(categoryId, categoryFilter, mode, page.getNextCursor()) : null);
         addUserToModel(model, session);
         return "index";
     }
@@ -78,7 +87,7 @@ public class ViewController {
         try {
             authService.login(request, session);
             return "redirect:/";
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | TooManyRequestsException e) {
             redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
             return "redirect:/login";
         }
@@ -94,11 +103,14 @@ public class ViewController {
     public String postDetail(@PathVariable Long id, Model model, HttpSession session) {
         try {
             PostResponse post = postService.getPostById(id);
+            postService.recordView(id);
             List<CommentResponse> comments = commentService.getCommentsByPostId(id);
             List<CategoryResponse> categories = categoryService.getAllCategories();
+            List<RelatedPostResponse> relatedPosts = postService.getRelatedPosts(id, 5);
             
             model.addAttribute("post", post);
             model.addAttribute("comments", comments);
+            model.addAttribute("relatedPosts", relatedPosts);
             model.addAttribute("categories", categories);
             model.addAttribute("commentRequest", new CommentCreateRequest());
             addUserToModel(model, session);
@@ -334,6 +346,19 @@ public class ViewController {
         return "redirect:/categories";
     }
 
+    @GetMapping("/admin/dashboard")
+    public String adminDashboard(Model model, HttpSession session) {
+        if (!authService.isLoggedIn(session)) {
+            return "redirect:/login";
+        }
+        if (!authService.isAdmin(session)) {
+            return "redirect:/";
+        }
+        model.addAttribute("dashboard", adminDashboardService.getDashboard());
+        addUserToModel(model, session);
+        return "admin-dashboard";
+    }
+
     private void addUserToModel(Model model, HttpSession session) {
         if (authService.isLoggedIn(session)) {
             try {
@@ -348,5 +373,14 @@ public class ViewController {
             model.addAttribute("isLoggedIn", false);
         }
     }
-}
 
+    private static String nextPageUrl(Long categoryId, List<Long> categoryFilter, String mode, String cursor) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromPath("/");
+        if (categoryId != null) {
+            builder.queryParam("categoryId", categoryId);
+        } else if (categoryFilter != null && !categoryFilter.isEmpty()) {
+            builder.queryParam("categories", categoryFilter.toArray()).queryParam("mode", mode);
+        }
+        return builder.queryParam("cursor", cursor).encode().toUriString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.cmc.dto.request;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 비어 있는 항목은 현재 값을 유지한다.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PoolResizeRequest {
+    @Min(value = 1, message = "최대 풀 크기는 1 이상이어야 합니다")
+    private Integer maximumPoolSize;
+
+    @Min(value = 0, message = "최소 유휴 커넥션 수는 0 이상이어야 합니다")
+    private Integer minimumIdle;
+
+    @Min(value = 0, message = "누수 감지 시간은 0 이상이어야 합니다")
+    private Long leakDetectionThresholdMs;
+}
@@ -0,0 +1,27 @@
+package com.example.cmc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminDashboardResponse {
+    private LocalDateTime generatedAt;
+    private int windowSeconds;
+    private List<EndpointStatsResponse> endpoints;
+    private List<EndpointStatsResponse> slowestEndpoints;
+    private List<CacheStatsResponse> caches;
+    private List<PoolStatsResponse> pools;
+    private long activeSessions;
+    private Map<String, Long> tableRowCounts;
+}
@@ -0,0 +1,22 @@
+package com.example.cmc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookmarkSummaryResponse {
+    private Long postId;
+    private String title;
+    private String authorEmail;
+    private LocalDateTime postCreatedAt;
+    private LocalDateTime bookmarkedAt;
+}
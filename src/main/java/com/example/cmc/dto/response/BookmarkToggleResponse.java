@@ -0,0 +1,18 @@
+package com.example.cmc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookmarkToggleResponse {
+    private String userEmail;
+    private Long postId;
+    private boolean bookmarked;
+}
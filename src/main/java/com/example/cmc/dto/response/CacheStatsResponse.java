@@ -0,0 +1,20 @@
+package com.example.cmc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsResponse {
+    private String name;
+    private long hits;
+    private long misses;
+    private double hitRatio;
+    private long sizeBytes;
+}
@@ -18,4 +18,5 @@ public class CategoryResponse {
     private String name;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
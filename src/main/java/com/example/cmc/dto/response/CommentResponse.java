@@ -20,6 +20,9 @@ public class CommentResponse {
     private String authorNickname;
     private Long postId;
     private Long parentId;
+    private Integer depth;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
+    private boolean deleted;
 }
@@ -0,0 +1,18 @@
+package com.example.cmc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentThreadResponse {
+    private Long rootId;
+    private long descendantCount;
+    private List<CommentResponse> comments;
+}
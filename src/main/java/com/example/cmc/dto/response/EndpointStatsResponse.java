@@ -0,0 +1,21 @@
+package com.example.cmc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EndpointStatsResponse {
+    private String endpoint;
+    private long requestCount;
+    private long errorCount;
+    private double requestsPerSecond;
+    private double averageMs;
+    private double maxMs;
+}
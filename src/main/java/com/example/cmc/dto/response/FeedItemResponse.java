@@ -0,0 +1,23 @@
+package com.example.cmc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedItemResponse {
+    private Long commentId;
+    private Long postId;
+    private String postTitle;
+    private String commentAuthorEmail;
+    private String content;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,26 @@
+package com.example.cmc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PoolStatsResponse {
+    private String name;
+    private int activeConnections;
+    private int idleConnections;
+    private int totalConnections;
+    private int threadsAwaitingConnection;
+    // 사용 중인 커넥션 / 최대 풀 크기
+    private double saturation;
+    private int maximumPoolSize;
+    private int minimumIdle;
+    private long leakDetectionThresholdMs;
+    private long connectionTimeoutMs;
+}
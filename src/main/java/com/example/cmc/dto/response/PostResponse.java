@@ -23,4 +23,7 @@ public class PostResponse {
     private List<CategoryInfo> categories;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
+    private long viewCount;
+    private boolean bookmarkedByViewer;
 }
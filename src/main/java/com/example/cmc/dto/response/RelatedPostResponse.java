@@ -0,0 +1,19 @@
+package com.example.cmc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RelatedPostResponse {
+    private Long id;
+    private String title;
+    private String authorEmail;
+    private double similarity;
+}
@@ -35,12 +35,25 @@ public class Comment {
     @Column(name = "parent_id")
     private Long parentId;  
 
+    @Column(length = 760)
+    private String path;
+
+    @Column(nullable = false)
+    private int depth;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_email", referencedColumnName = "email", insertable = false, updatable = false)
     private User author;
@@ -0,0 +1,13 @@
+package com.example.cmc.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ConflictException extends RuntimeException {
+    private final Long currentVersion;
+
+    public ConflictException(String message, Long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.cmc.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 쓰기 지연 버퍼의 북마크 요청을 여러 행짜리 문장으로 반영한다.
+// 시각 파라미터는 Hibernate 를 거쳐 바인딩되므로 JPA 로 저장한 created_at 과 같은 시간대로 기록된다.
+@Repository
+public class BookmarkBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 요청마다 게시글/사용자를 PK 로 찾아 넣으므로 이미 있는 북마크, 삭제 표시되었거나 없는 게시글, 없는 사용자 행은 빠진다.
+    // FK 위반이 생기지 않으므로 INSERT IGNORE 는 중복 키만 건너뛴다. UNION 의 각 열 타입을 정하도록 시각은 CAST 한다.
+    public int insertAll(List<BookmarkIntent> intents) {
+        int inserted = 0;
+        for (int from = 0; from < intents.size(); from += BATCH_SIZE) {
+            List<BookmarkIntent> batch = intents.subList(from, Math.min(from + BATCH_SIZE, intents.size()));
+            StringBuilder sql = new StringBuilder(
+                    "INSERT IGNORE INTO bookmarks (user_email, post_id, created_at, updated_at) ");
+            for (int i = 0; i < batch.size(); i++) {
+                sql.append(i == 0 ? "" : " UNION ALL ")
+                        .append("SELECT u.email, p.id, CAST(:t").append(i).append(" AS DATETIME(6)), CAST(:t")
+                        .append(i).append(" AS DATETIME(6))")
+                        .append(" FROM posts p JOIN users u ON u.email = :u").append(i)
+                        .append(" WHERE p.id = :p").append(i).append(" AND p.deleted_at IS NULL");
+            }
+            Query query = entityManager.createNativeQuery(sql.toString());
+            for (int i = 0; i < batch.size(); i++) {
+                BookmarkIntent intent = batch.get(i);
+                query.setParameter("u" + i, intent.userEmail());
+                query.setParameter("p" + i, intent.postId());
+                query.setParameter("t" + i, intent.requestedAt());
+            }
+            inserted += query.executeUpdate();
+        }
+        return inserted;
+    }
+
+    // (user_email, post_id) 행 값 IN 목록은 PK 범위 조회로 처리된다.
+    public int deleteAll(List<BookmarkIntent> intents) {
+        int deleted = 0;
+        for (int from = 0; from < intents.size(); from += BATCH_SIZE) {
+            List<BookmarkIntent> batch = intents.subList(from, Math.min(from + BATCH_SIZE, intents.size()));
+            StringBuilder sql = new StringBuilder("DELETE FROM bookmarks WHERE (user_email, post_id) IN (");
+            for (int i = 0; i < batch.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append("(:u").append(i).append(", :p").append(i).append(")");
+            }
+            Query query = entityManager.createNativeQuery(sql.append(")").toString());
+            for (int i = 0; i < batch.size(); i++) {
+                query.setParameter("u" + i, batch.get(i).userEmail());
+                query.setParameter("p" + i, batch.get(i).postId());
+            }
+            deleted += query.executeUpdate();
+        }
+        return deleted;
+    }
+}
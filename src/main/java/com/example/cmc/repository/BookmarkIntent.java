@@ -0,0 +1,7 @@
+package com.example.cmc.repository;
+
+import java.time.LocalDateTime;
+
+// 아직 DB 에 반영되지 않은 북마크 추가(bookmarked=true) 또는 삭제 요청
+public record BookmarkIntent(String userEmail, Long postId, boolean bookmarked, LocalDateTime requestedAt) {
+}
@@ -1,20 +1,70 @@
 package com.example.cmc.repository;
 
+import com.example.cmc.dto.response.BookmarkSummaryResponse;
 import com.example.cmc.entity.Bookmark;
 import com.example.cmc.entity.BookmarkId;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, BookmarkId> {
     List<Bookmark> findByUserEmail(String userEmail);
     
-    @Query("SELECT b FROM Bookmark b JOIN FETCH b.post WHERE b.userEmail = :userEmail")
-    List<Bookmark> findByUserEmailWithPost(@Param("userEmail") String userEmail);
-    
     boolean existsByUserEmailAndPostId(String userEmail, Long postId);
+
+    // (user_email, created_at, post_id) 인덱스를 역순으로 읽는 키셋 페이지네이션
+    @Query("SELECT new com.example.cmc.dto.response.BookmarkSummaryResponse(" +
+            "b.postId, p.title, p.authorEmail, p.createdAt, b.createdAt) " +
+            "FROM Bookmark b JOIN b.post p " +
+            "WHERE b.userEmail = :userEmail AND p.deletedAt IS NULL " +
+            "ORDER BY b.createdAt DESC, b.postId DESC")
+    List<BookmarkSummaryResponse> findSummariesByUserEmail(@Param("userEmail") String userEmail, Limit limit);
+
+    @Query("SELECT new com.example.cmc.dto.response.BookmarkSummaryResponse(" +
+            "b.postId, p.title, p.authorEmail, p.createdAt, b.createdAt) " +
+            "FROM Bookmark b JOIN b.post p " +
+            "WHERE b.userEmail = :userEmail AND p.deletedAt IS NULL " +
+            "AND (b.createdAt < :cursorCreatedAt OR (b.createdAt = :cursorCreatedAt AND b.postId < :cursorPostId)) " +
+            "ORDER BY b.createdAt DESC, b.postId DESC")
+    List<BookmarkSummaryResponse> findSummariesByUserEmailBefore(@Param("userEmail") String userEmail,
+                                                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                                 @Param("cursorPostId") Long cursorPostId,
+                                                                 Limit limit);
+
+    @Query("SELECT b.postId FROM Bookmark b WHERE b.userEmail = :userEmail AND b.postId IN :postIds")
+    List<Long> findPostIdsByUserEmailAndPostIdIn(@Param("userEmail") String userEmail,
+                                                 @Param("postIds") Collection<Long> postIds);
+
+    // 이미 존재하거나 FK 위반(사용자 없음)이면 0을 반환한다.
+    // 게시글이 없거나 삭제 표시되었으면 SELECT 가 행을 만들지 않으므로 역시 0이다.
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO bookmarks (user_email, post_id, created_at, updated_at) " +
+            "SELECT :userEmail, p.id, :now, :now FROM posts p WHERE p.id = :postId AND p.deleted_at IS NULL",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userEmail") String userEmail,
+                       @Param("postId") Long postId,
+                       @Param("now") LocalDateTime now);
+
+    // 새로 추가하면 1, 이미 있으면 updated_at 을 바꾸므로 2를 반환한다.
+    // 게시글이 없거나 삭제 표시되었으면 SELECT 가 행을 만들지 않으므로 0이고, 사용자가 없으면 FK 위반으로 실패한다.
+    @Modifying
+    @Query(value = "INSERT INTO bookmarks (user_email, post_id, created_at, updated_at) " +
+            "SELECT :userEmail, p.id, :now, :now FROM posts p WHERE p.id = :postId AND p.deleted_at IS NULL " +
+            "ON DUPLICATE KEY UPDATE updated_at = :now",
+            nativeQuery = true)
+    int insertOrTouch(@Param("userEmail") String userEmail,
+                      @Param("postId") Long postId,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM Bookmark b WHERE b.userEmail = :userEmail AND b.postId = :postId")
+    int deleteByUserEmailAndPostId(@Param("userEmail") String userEmail, @Param("postId") Long postId);
 }
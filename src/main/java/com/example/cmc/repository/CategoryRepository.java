@@ -2,8 +2,29 @@ package com.example.cmc.repository;
 
 import com.example.cmc.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    @Query("SELECT new com.example.cmc.repository.ResourceVersion(COUNT(c), MAX(c.updatedAt), MAX(c.id)) FROM Category c")
+    ResourceVersion findVersion();
+
+    @Query("SELECT c.version FROM Category c WHERE c.id = :id")
+    Optional<Long> findCurrentVersionById(@Param("id") Long id);
+
+    // version 이 null 이면 버전 확인 없이 수정한다. 수정된 행 수를 반환한다.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Category c SET c.name = :name, c.updatedAt = :updatedAt, c.version = c.version + 1 " +
+            "WHERE c.id = :id AND (:version IS NULL OR c.version = :version)")
+    int updateIfVersionMatches(@Param("id") Long id,
+                               @Param("version") Long version,
+                               @Param("name") String name,
+                               @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -2,17 +2,77 @@ package com.example.cmc.repository;
 
 import com.example.cmc.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    List<Comment> findByPostId(Long postId);
+    // 삭제 표시된 게시글의 댓글은 정리되기 전까지도 보이지 않는다.
+    // (post_id, path) 인덱스 범위 한 번으로 스레드 순서(부모 다음에 그 답글들)대로 읽는다.
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId " +
+            "AND EXISTS (SELECT 1 FROM Post p WHERE p.id = :postId AND p.deletedAt IS NULL) " +
+            "ORDER BY c.path")
+    List<Comment> findByPostId(@Param("postId") Long postId);
+
+    // 삭제 표시된 게시글의 댓글은 정리되기 전까지 남아 있으므로 조회 쿼리는 게시글과 조인해 거른다.
+    @Query("SELECT c FROM Comment c JOIN Post p ON p.id = c.postId WHERE c.id = :id AND p.deletedAt IS NULL")
+    Optional<Comment> findVisibleById(@Param("id") Long id);
+
+    // pathPattern 은 CommentPath.subtreePattern 으로 만든 접두어 패턴이다. 결과에 루트 댓글 자신도 포함된다.
+    @Query("SELECT c FROM Comment c JOIN Post p ON p.id = c.postId " +
+            "WHERE c.postId = :postId AND c.path LIKE :pathPattern AND p.deletedAt IS NULL ORDER BY c.path")
+    List<Comment> findSubtree(@Param("postId") Long postId, @Param("pathPattern") String pathPattern);
+
+    @Query("SELECT c FROM Comment c JOIN Post p ON p.id = c.postId " +
+            "WHERE c.postId = :postId AND c.path LIKE :pathPattern AND c.depth <= :maxDepth AND p.deletedAt IS NULL " +
+            "ORDER BY c.path")
+    List<Comment> findSubtreeWithinDepth(@Param("postId") Long postId,
+                                         @Param("pathPattern") String pathPattern,
+                                         @Param("maxDepth") int maxDepth);
+
+    @Query("SELECT COUNT(c) FROM Comment c JOIN Post p ON p.id = c.postId " +
+            "WHERE c.postId = :postId AND c.path LIKE :pathPattern AND c.id <> :id AND p.deletedAt IS NULL")
+    long countDescendants(@Param("id") Long id,
+                          @Param("postId") Long postId,
+                          @Param("pathPattern") String pathPattern);
+
+    // 경로는 id 를 포함하므로 INSERT 직후에 채운다. 버전은 올리지 않는다.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.path = :path, c.depth = :depth WHERE c.id = :id")
+    int updatePath(@Param("id") Long id, @Param("path") String path, @Param("depth") int depth);
 
 
     List<Comment> findByParentId(Long parentId);
 
+    // (post_id, updated_at) 인덱스만 읽는다.
+    @Query("SELECT new com.example.cmc.repository.ResourceVersion(COUNT(c), MAX(c.updatedAt), MAX(c.id)) " +
+            "FROM Comment c WHERE c.postId = :postId")
+    ResourceVersion findVersionByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT c.version FROM Comment c WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<Long> findCurrentVersionById(@Param("id") Long id);
+
+    // version 이 null 이면 버전 확인 없이 수정한다. 수정된 행 수를 반환한다.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.content = :content, c.updatedAt = :updatedAt, c.version = c.version + 1 " +
+            "WHERE c.id = :id AND c.deletedAt IS NULL AND (:version IS NULL OR c.version = :version)")
+    int updateIfVersionMatches(@Param("id") Long id,
+                               @Param("version") Long version,
+                               @Param("content") String content,
+                               @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 행과 부모 관계는 남기고 내용만 비운다. 이미 툼스톤이거나 없으면 0을 반환한다.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.content = '', c.deletedAt = :deletedAt, c.updatedAt = :deletedAt, " +
+            "c.version = c.version + 1 WHERE c.id = :id AND c.deletedAt IS NULL")
+    int tombstoneById(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
+
 }
@@ -0,0 +1,44 @@
+package com.example.cmc.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 댓글 묶음을 엔티티로 불러오지 않고 집합 단위 SQL 로 지운다.
+@Repository
+@RequiredArgsConstructor
+public class CommentTreeRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 답글은 부모보다 id 가 크므로 id 역순 묶음으로 지우면 남은 댓글이 지운 댓글을 가리키는 일이 없다.
+    // 묶음 안의 부모 참조만 먼저 끊고 지운다. 피드 항목은 FK 의 ON DELETE CASCADE 로 함께 지워진다.
+    public int deleteAll(List<Long> commentIdsDescending) {
+        int deleted = 0;
+        for (int from = 0; from < commentIdsDescending.size(); from += BATCH_SIZE) {
+            List<Long> batch = commentIdsDescending.subList(from, Math.min(from + BATCH_SIZE, commentIdsDescending.size()));
+            MapSqlParameterSource params = new MapSqlParameterSource("commentIds", batch);
+            namedParameterJdbcTemplate.update(
+                    "UPDATE comments SET parent_id = NULL WHERE id IN (:commentIds) AND parent_id IS NOT NULL", params);
+            deleted += namedParameterJdbcTemplate.update("DELETE FROM comments WHERE id IN (:commentIds)", params);
+        }
+        return deleted;
+    }
+
+    // 한 댓글의 하위 트리를 (post_id, path) 인덱스 범위로 두 문장에 지운다. 트리 크기와 상관없이 문장 수가 같다.
+    // 트리 안의 부모 참조를 먼저 모두 끊으므로 지우는 순서와 상관없이 FK 에 걸리지 않는다.
+    public int deleteSubtree(Long postId, String pathPattern) {
+        MapSqlParameterSource params = new MapSqlParameterSource("postId", postId)
+                .addValue("pathPattern", pathPattern);
+        namedParameterJdbcTemplate.update(
+                "UPDATE comments SET parent_id = NULL " +
+                "WHERE post_id = :postId AND path LIKE :pathPattern AND parent_id IS NOT NULL", params);
+        return namedParameterJdbcTemplate.update(
+                "DELETE FROM comments WHERE post_id = :postId AND path LIKE :pathPattern", params);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.cmc.repository;
+
+import com.example.cmc.config.DataSourceConfig;
+import com.example.cmc.dto.response.FeedItemResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// 비동기 fan-out 쓰기는 배치 작업용 풀을, 피드 조회는 요청 처리용 풀을 쓴다.
+@Repository
+public class FeedRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final JdbcTemplate fanoutJdbcTemplate;
+
+    public FeedRepository(JdbcTemplate jdbcTemplate,
+                          NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                          @Qualifier(DataSourceConfig.BACKGROUND) DataSource backgroundDataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.fanoutJdbcTemplate = new JdbcTemplate(backgroundDataSource);
+    }
+
+    public String findPostAuthorEmail(Long postId) {
+        List<String> authors = fanoutJdbcTemplate.queryForList(
+                "SELECT author_email FROM posts WHERE id = ? AND deleted_at IS NULL", String.class, postId);
+        return authors.isEmpty() ? null : authors.get(0);
+    }
+
+    public boolean isHotPost(Long postId) {
+        return !fanoutJdbcTemplate.queryForList(
+                "SELECT post_id FROM feed_hot_posts WHERE post_id = ?", Long.class, postId).isEmpty();
+    }
+
+    public void markHotPost(Long postId, LocalDateTime promotedAt) {
+        fanoutJdbcTemplate.update(
+                "INSERT IGNORE INTO feed_hot_posts (post_id, promoted_at) VALUES (?, ?)",
+                postId, Timestamp.valueOf(promotedAt));
+    }
+
+    // 상한까지만 세므로 북마크가 아주 많은 게시글도 비용이 일정하다.
+    public int countBookmarkersUpTo(Long postId, int limit) {
+        Integer count = fanoutJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT 1 FROM bookmarks WHERE post_id = ? LIMIT ?) t",
+                Integer.class, postId, limit);
+        return count == null ? 0 : count;
+    }
+
+    // idx_bookmarks_post_id 는 PK 의 user_email 을 포함하므로 user_email 순 키셋으로 끊어 읽는다.
+    public List<String> findBookmarkerEmails(Long postId, String afterEmail, int limit) {
+        return fanoutJdbcTemplate.queryForList(
+                "SELECT user_email FROM bookmarks WHERE post_id = ? AND user_email > ? ORDER BY user_email LIMIT ?",
+                String.class, postId, afterEmail, limit);
+    }
+
+    public void insertEntries(Collection<String> userEmails, Long commentId, Long postId, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        List<Object[]> rows = userEmails.stream()
+                .map(userEmail -> new Object[]{userEmail, commentId, postId, timestamp})
+                .toList();
+        fanoutJdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO feed_entries (user_email, comment_id, post_id, created_at) VALUES (?, ?, ?, ?)",
+                rows);
+    }
+
+    public List<Long> findInboxCommentIds(String userEmail, Long beforeCommentId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT comment_id FROM feed_entries WHERE user_email = ? AND comment_id < ? " +
+                        "ORDER BY comment_id DESC LIMIT ?",
+                Long.class, userEmail, beforeCommentId, limit);
+    }
+
+    // fan-out-on-read 대상 게시글 중 사용자가 북마크한 게시글의 댓글
+    public List<Long> findHotPostCommentIds(String userEmail, Long beforeCommentId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.id FROM feed_hot_posts h " +
+                        "JOIN bookmarks b ON b.post_id = h.post_id AND b.user_email = ? " +
+                        "JOIN comments c ON c.post_id = h.post_id " +
+                        "WHERE c.id < ? AND c.author_email <> ? " +
+                        "ORDER BY c.id DESC LIMIT ?",
+                Long.class, userEmail, beforeCommentId, userEmail, limit);
+    }
+
+    public List<FeedItemResponse> findItems(Collection<Long> commentIds) {
+        return namedParameterJdbcTemplate.query(
+                "SELECT c.id, c.post_id, p.title, c.author_email, c.content, c.created_at " +
+                        "FROM comments c JOIN posts p ON p.id = c.post_id " +
+                        "WHERE c.id IN (:commentIds) AND p.deleted_at IS NULL",
+                new MapSqlParameterSource("commentIds", commentIds),
+                (rs, rowNum) -> FeedItemResponse.builder()
+                        .commentId(rs.getLong("id"))
+                        .postId(rs.getLong("post_id"))
+                        .postTitle(rs.getString("title"))
+                        .commentAuthorEmail(rs.getString("author_email"))
+                        .content(rs.getString("content"))
+                        .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                        .build());
+    }
+}
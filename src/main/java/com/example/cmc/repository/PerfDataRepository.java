@@ -0,0 +1,137 @@
+package com.example.cmc.repository;
+
+import com.example.cmc.config.DataSourceConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 성능 테스트용 데이터를 여러 행짜리 INSERT 문을 JDBC 배치로 묶어 쓴다.
+// 한 문장에 rowsPerStatement 행, 한 번의 왕복에 statementsPerBatch 문장을 보내므로
+// 행 단위 INSERT 보다 왕복과 파싱 비용이 수천 분의 일로 줄어든다.
+@Repository
+public class PerfDataRepository {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PerfDataRepository(@Qualifier(DataSourceConfig.BACKGROUND) DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public Connection openConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    // 행을 모아 두었다가 rowsPerStatement 행마다 한 문장으로 배치에 넣고, statementsPerBatch 문장마다 내보낸다.
+    // parent 를 주면 FK 대상 행이 먼저 들어가도록 따로 내보내지 않고 부모가 내보낼 때 뒤이어 내보낸다.
+    public static final class Inserter implements AutoCloseable {
+
+        private final Connection connection;
+        private final String insertPrefix;
+        private final String rowPlaceholders;
+        private final int columnCount;
+        private final int rowsPerStatement;
+        private final int statementsPerBatch;
+        private final boolean child;
+        private final List<Inserter> children = new ArrayList<>();
+        private final Object[] buffer;
+
+        private PreparedStatement fullStatement;
+        private int bufferedRows;
+        private int batchedStatements;
+        private long writtenRows;
+
+        public Inserter(Connection connection, String table, String[] columns,
+                        int rowsPerStatement, int statementsPerBatch, Inserter parent) {
+            this.connection = connection;
+            this.insertPrefix = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+            this.rowPlaceholders = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+            this.columnCount = columns.length;
+            this.rowsPerStatement = rowsPerStatement;
+            this.statementsPerBatch = statementsPerBatch;
+            this.child = parent != null;
+            this.buffer = new Object[rowsPerStatement * columns.length];
+            if (parent != null) {
+                parent.children.add(this);
+            }
+        }
+
+        public void add(Object... values) throws SQLException {
+            System.arraycopy(values, 0, buffer, bufferedRows * columnCount, columnCount);
+            if (++bufferedRows < rowsPerStatement) {
+                return;
+            }
+            if (fullStatement == null) {
+                fullStatement = connection.prepareStatement(sql(rowsPerStatement));
+            }
+            bind(fullStatement, rowsPerStatement);
+            fullStatement.addBatch();
+            bufferedRows = 0;
+            if (++batchedStatements >= statementsPerBatch && !child) {
+                executeBatch();
+            }
+        }
+
+        // 남은 행까지 모두 쓴다. 자식은 부모의 flush 로 함께 쓰인다.
+        public void flush() throws SQLException {
+            executeBatch();
+            if (bufferedRows > 0) {
+                try (PreparedStatement statement = connection.prepareStatement(sql(bufferedRows))) {
+                    bind(statement, bufferedRows);
+                    statement.executeUpdate();
+                }
+                writtenRows += bufferedRows;
+                bufferedRows = 0;
+            }
+            for (Inserter inserter : children) {
+                inserter.flush();
+            }
+        }
+
+        public long getWrittenRows() {
+            return writtenRows;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (fullStatement != null) {
+                fullStatement.close();
+            }
+        }
+
+        private void executeBatch() throws SQLException {
+            if (batchedStatements > 0) {
+                fullStatement.executeBatch();
+                writtenRows += (long) batchedStatements * rowsPerStatement;
+                batchedStatements = 0;
+            }
+            for (Inserter inserter : children) {
+                inserter.executeBatch();
+            }
+        }
+
+        private void bind(PreparedStatement statement, int rows) throws SQLException {
+            for (int i = 0; i < rows * columnCount; i++) {
+                statement.setObject(i + 1, buffer[i]);
+            }
+        }
+
+        private String sql(int rows) {
+            return insertPrefix + String.join(", ", Collections.nCopies(rows, rowPlaceholders));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.cmc.repository;
+
+import com.example.cmc.config.DataSourceConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+// 소프트 삭제된 게시글의 자식 행을 한 번에 limit 건씩 지운다. 각 호출은 자동 커밋되는 짧은 문장이다.
+// 정리 작업이 요청 처리 커넥션을 가져가지 않도록 배치 작업용 풀을 쓴다.
+@Repository
+public class PostPurgeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CommentTreeRepository commentTreeRepository;
+
+    public PostPurgeRepository(@Qualifier(DataSourceConfig.BACKGROUND) DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.commentTreeRepository = new CommentTreeRepository(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    // 먼저 삭제된 게시글부터
+    public List<Long> findDeletedPostIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM posts WHERE deleted_at IS NOT NULL ORDER BY deleted_at, id LIMIT ?",
+                Long.class, limit);
+    }
+
+    // 게시글의 최신 댓글부터 limit 건을 지운다. 답글이 부모보다 먼저 지워진다.
+    public int deleteComments(Long postId, int limit) {
+        List<Long> commentIds = jdbcTemplate.queryForList(
+                "SELECT id FROM comments WHERE post_id = ? ORDER BY id DESC LIMIT ?",
+                Long.class, postId, limit);
+        return commentIds.isEmpty() ? 0 : commentTreeRepository.deleteAll(commentIds);
+    }
+
+    public int deleteBookmarks(Long postId, int limit) {
+        return jdbcTemplate.update("DELETE FROM bookmarks WHERE post_id = ? LIMIT ?", postId, limit);
+    }
+
+    public int deletePostCategories(Long postId) {
+        return jdbcTemplate.update("DELETE FROM post_categories WHERE post_id = ?", postId);
+    }
+
+    // 트렌딩 점수와 인기 게시글 표시는 FK 의 ON DELETE CASCADE 로 함께 지워진다.
+    public int deletePost(Long postId) {
+        return jdbcTemplate.update("DELETE FROM posts WHERE id = ? AND deleted_at IS NOT NULL", postId);
+    }
+}
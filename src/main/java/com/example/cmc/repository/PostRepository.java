@@ -1,16 +1,47 @@
 package com.example.cmc.repository;
 
 import com.example.cmc.entity.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     List<Post> findByAuthorEmail(String authorEmail);
 
-    
+    List<Post> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
+
+    // 게시글 version 과 수정 시각. 카테고리만 바꾼 수정도 version 을 올리므로 post_categories 는 보지 않는다.
+    // DB 에 반영된 조회수도 넣어 캐시된 본문의 조회수가 반영 주기마다 새로 만들어지게 한다.
+    @Query("SELECT new com.example.cmc.repository.ResourceVersion(1L, p.updatedAt, p.id, p.viewCount, p.version) " +
+            "FROM Post p WHERE p.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT p.version FROM Post p WHERE p.id = :id")
+    Optional<Long> findCurrentVersionById(@Param("id") Long id);
+
+    // version 이 null 이면 버전 확인 없이 수정한다. 수정된 행 수를 반환한다.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.title = :title, p.content = :content, p.updatedAt = :updatedAt, " +
+            "p.version = p.version + 1 " +
+            "WHERE p.id = :id AND p.deletedAt IS NULL AND (:version IS NULL OR p.version = :version)")
+    int updateIfVersionMatches(@Param("id") Long id,
+                               @Param("version") Long version,
+                               @Param("title") String title,
+                               @Param("content") String content,
+                               @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 자식 행은 건드리지 않고 표시만 한다. 이미 삭제되었거나 없으면 0을 반환한다.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.deletedAt = :deletedAt WHERE p.id = :id AND p.deletedAt IS NULL")
+    int softDeleteById(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
 }
 
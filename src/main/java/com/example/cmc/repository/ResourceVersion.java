@@ -0,0 +1,43 @@
+package com.example.cmc.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+// 조건부 GET 용 버전 정보. 행 수, 마지막 수정 시각, 최대 id 를 집계 쿼리 한 번으로 구한다.
+// 행 수와 최대 id 를 함께 쓰므로 수정 없이 삭제/추가만 일어난 경우도 ETag 가 바뀐다.
+// counter 는 수정 시각을 바꾸지 않는 값(게시글 조회수 등)으로, 0 이 아니면 ETag 에 덧붙인다.
+// 단건 조회는 entityVersion(엔티티 @Version)을 ETag 맨 앞에 두어 PUT 의 If-Match 로 그대로 보낼 수 있게 한다.
+public record ResourceVersion(Long count, LocalDateTime lastModified, Long maxId, Long counter, Long entityVersion) {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public ResourceVersion(Long count, LocalDateTime lastModified, Long maxId) {
+        this(count, lastModified, maxId, null, null);
+    }
+
+    public ResourceVersion(Long count, LocalDateTime lastModified, Long maxId, Long counter) {
+        this(count, lastModified, maxId, counter, null);
+    }
+
+    public String eTag() {
+        long micros = lastModified == null ? 0 : ChronoUnit.MICROS.between(EPOCH, lastModified);
+        String suffix = counter == null || counter == 0 ? "" : "-" + Long.toHexString(counter);
+        if (entityVersion != null) {
+            return "W/\"" + entityVersion + "-" + Long.toHexString(micros) + suffix + "\"";
+        }
+        return "W/\"" + Long.toHexString(count == null ? 0 : count) + "-" + Long.toHexString(maxId == null ? 0 : maxId)
+                + "-" + Long.toHexString(micros) + suffix + "\"";
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public ResourceVersion withLastModified(LocalDateTime other) {
+        if (other == null || (lastModified != null && !other.isAfter(lastModified))) {
+            return this;
+        }
+        return new ResourceVersion(count, other, maxId, counter, entityVersion);
+    }
+}
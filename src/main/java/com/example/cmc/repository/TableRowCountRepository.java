@@ -0,0 +1,33 @@
+package com.example.cmc.repository;
+
+import com.example.cmc.config.DataSourceConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+// 주기적인 행 수 보정에서만 쓰므로 배치 작업용 풀을 쓴다.
+@Repository
+public class TableRowCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TableRowCountRepository(@Qualifier(DataSourceConfig.BACKGROUND) DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // 게시글은 삭제되지 않은 것만 센다.
+    public record RowCounts(long users, long posts, long comments, long bookmarks, long categories) {
+    }
+
+    public RowCounts countAll() {
+        return jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM users), " +
+                        "(SELECT COUNT(*) FROM posts WHERE deleted_at IS NULL), " +
+                        "(SELECT COUNT(*) FROM comments), " +
+                        "(SELECT COUNT(*) FROM bookmarks), " +
+                        "(SELECT COUNT(*) FROM categories)",
+                (rs, rowNum) -> new RowCounts(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)));
+    }
+}
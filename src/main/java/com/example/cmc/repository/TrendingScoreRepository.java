@@ -0,0 +1,64 @@
+package com.example.cmc.repository;
+
+import com.example.cmc.config.DataSourceConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 시작 시 복원과 주기적인 스냅샷에서만 쓰므로 배치 작업용 풀을 쓴다.
+@Repository
+public class TrendingScoreRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TrendingScoreRepository(@Qualifier(DataSourceConfig.BACKGROUND) DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public record ScoreRow(Long postId, double score, LocalDateTime scoredAt) {
+    }
+
+    public List<ScoreRow> findAll() {
+        return jdbcTemplate.query(
+                "SELECT s.post_id, s.score, s.scored_at FROM post_trending_scores s " +
+                        "JOIN posts p ON p.id = s.post_id WHERE p.deleted_at IS NULL",
+                (rs, rowNum) -> new ScoreRow(
+                        rs.getLong("post_id"),
+                        rs.getDouble("score"),
+                        rs.getTimestamp("scored_at").toLocalDateTime()));
+    }
+
+    public void upsertAll(Map<Long, Double> scores, LocalDateTime scoredAt) {
+        List<Object[]> rows = new ArrayList<>(scores.size());
+        Timestamp timestamp = Timestamp.valueOf(scoredAt);
+        scores.forEach((postId, score) -> rows.add(new Object[]{postId, score, timestamp}));
+
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO post_trending_scores (post_id, score, scored_at) VALUES (?, ?, ?) " +
+                            "ON DUPLICATE KEY UPDATE score = VALUES(score), scored_at = VALUES(scored_at)",
+                    rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    public void deleteAll(Collection<Long> postIds) {
+        List<Object[]> rows = postIds.stream()
+                .map(postId -> new Object[]{postId})
+                .toList();
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(
+                    "DELETE FROM post_trending_scores WHERE post_id = ?",
+                    rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
@@ -2,8 +2,13 @@ package com.example.cmc.repository;
 
 import com.example.cmc.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +18,11 @@ public interface UserRespository extends JpaRepository<User, String> {
     
     
     void deleteByEmail(String email);
-}
\ No newline at end of file
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password, u.updatedAt = :updatedAt WHERE u.email = :email")
+    int updatePassword(@Param("email") String email,
+                       @Param("password") String password,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,43 @@
+package com.example.cmc.repository;
+
+import com.example.cmc.config.DataSourceConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// 주기적인 일괄 반영만 하므로 배치 작업용 풀을 쓴다.
+@Repository
+public class ViewCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ViewCountRepository(@Qualifier(DataSourceConfig.BACKGROUND) DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // 여러 게시글의 증가분을 UPDATE ... CASE 한 문장으로 더한다. 수정된 행 수를 반환한다.
+    // 호출하는 쪽이 id 순으로 넘기므로 동시에 도는 다른 UPDATE 와 같은 순서로 행 잠금을 잡는다.
+    public int addViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("UPDATE posts SET view_count = view_count + CASE id");
+        List<Object> args = new ArrayList<>(deltas.size() * 3);
+        deltas.forEach((postId, delta) -> {
+            sql.append(" WHEN ? THEN ?");
+            args.add(postId);
+            args.add(delta);
+        });
+        sql.append(" ELSE 0 END WHERE id IN (");
+        sql.append(String.join(", ", Collections.nCopies(deltas.size(), "?")));
+        sql.append(")");
+        args.addAll(deltas.keySet());
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.cmc.service;
+
+import com.example.cmc.config.ActiveSessionCounter;
+import com.example.cmc.dto.response.AdminDashboardResponse;
+import com.example.cmc.dto.response.CacheStatsResponse;
+import com.example.cmc.dto.response.EndpointStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+// 관리자 대시보드. 모든 값은 이미 메모리에 유지되는 집계를 읽기만 하므로 조회가 DB 나 요청 경로에 부담을 주지 않는다.
+@Service
+@RequiredArgsConstructor
+public class AdminDashboardService {
+
+    private static final int SLOWEST_LIMIT = 10;
+
+    private final RequestStatsService requestStatsService;
+    private final SerializedResponseCache serializedResponseCache;
+    private final ConnectionPoolService connectionPoolService;
+    private final ActiveSessionCounter activeSessionCounter;
+    private final TableRowCounter tableRowCounter;
+
+    public AdminDashboardResponse getDashboard() {
+        List<EndpointStatsResponse> endpoints = requestStatsService.getEndpointStats();
+        List<EndpointStatsResponse> slowestEndpoints = endpoints.stream()
+                .sorted(Comparator.comparingDouble(EndpointStatsResponse::getAverageMs).reversed())
+                .limit(SLOWEST_LIMIT)
+                .toList();
+
+        return AdminDashboardResponse.builder()
+                .generatedAt(LocalDateTime.now())
+                .windowSeconds(EndpointStats.WINDOW_SECONDS)
+                .endpoints(endpoints)
+                .slowestEndpoints(slowestEndpoints)
+                .caches(List.of(responseCacheStats()))
+                .pools(connectionPoolService.getPools())
+                .activeSessions(activeSessionCounter.getActiveSessions())
+                .tableRowCounts(tableRowCounter.getCounts())
+                .build();
+    }
+
+    private CacheStatsResponse responseCacheStats() {
+        long hits = serializedResponseCache.getHitCount();
+        long misses = serializedResponseCache.getMissCount();
+        return CacheStatsResponse.builder()
+                .name("response-cache")
+                .hits(hits)
+                .misses(misses)
+                .hitRatio(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .sizeBytes(serializedResponseCache.getTotalBytes())
+                .build();
+    }
+}
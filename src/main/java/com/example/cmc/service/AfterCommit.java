@@ -0,0 +1,25 @@
+package com.example.cmc.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 메모리 상태 변경을 DB 와 맞추기 위해 트랜잭션 안에서 호출하면 커밋된 뒤에 실행하고, 롤백되면 버린다.
+// 트랜잭션 밖에서 호출하면 바로 실행한다.
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -7,21 +7,26 @@ import com.example.cmc.dto.response.SignUpResponse;
 import com.example.cmc.dto.response.UserResponse;
 import com.example.cmc.entity.User;
 import com.example.cmc.exception.BadRequestException;
+import com.example.cmc.exception.ServiceUnavailableException;
 import com.example.cmc.exception.UnauthorizedException;
 import com.example.cmc.repository.UserRespository;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRespository userRespository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final TableRowCounter tableRowCounter;
     private static final String SESSION_USER_KEY = "user";
     private static final String DEFAULT_ROLE = "USER";
 
@@ -31,7 +36,7 @@ public class AuthService {
             throw new BadRequestException("이미 사용 중인 이메일입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
 
         User user = User.builder()
                 .email(request.getEmail())
@@ -41,6 +46,7 @@ public class AuthService {
                 .build();
 
         userRespository.save(user);
+        tableRowCounter.add(TableRowCounter.Table.USERS, 1);
 
         return SignUpResponse.builder()
                 .email(user.getEmail())
@@ -49,15 +55,28 @@ public class AuthService {
                 .build();
     }
 
-    @Transactional
+    // 해싱 중에 DB 커넥션을 붙잡지 않도록 트랜잭션 없이 실행한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request, HttpSession session) {
+        loginRateLimiter.checkEmail(request.getEmail());
+
         User user = userRespository.findById(request.getEmail())
                 .orElseThrow(() -> new UnauthorizedException("이메일 또는 비밀번호가 올바르지 않습니다."));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new UnauthorizedException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
 
+        // 설정된 cost보다 낮은 해시는 평문을 알고 있는 지금 재해싱한다.
+        // 풀이 바쁘면 로그인은 성공시키고 다음 로그인 때 다시 시도한다.
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            try {
+                String upgradedPassword = passwordHashingService.encode(request.getPassword());
+                userRespository.updatePassword(user.getEmail(), upgradedPassword, LocalDateTime.now());
+            } catch (ServiceUnavailableException ignored) {
+            }
+        }
+
         UserResponse userResponse = UserResponse.builder()
                 .email(user.getEmail())
                 .nickname(user.getNickname())
@@ -85,6 +104,11 @@ public class AuthService {
         return user;
     }
 
+    public String getCurrentUserEmail(HttpSession session) {
+        UserResponse user = (UserResponse) session.getAttribute(SESSION_USER_KEY);
+        return user != null ? user.getEmail() : null;
+    }
+
     public boolean isLoggedIn(HttpSession session) {
         return session.getAttribute(SESSION_USER_KEY) != null;
     }
@@ -0,0 +1,246 @@
+package com.example.cmc.service;
+
+import com.example.cmc.repository.BookmarkIntent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 북마크 요청을 세그먼트 파일에 한 줄씩 덧붙이는 로컬 저널.
+// 쓰기 스레드 하나가 대기 중인 요청을 모아 한 번에 쓰고 fsync 하므로(group commit) 요청마다 fsync 하지 않는다.
+@Slf4j
+public class BookmarkJournal implements AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "bookmarks-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int MAX_SYNC_BATCH = 1000;
+    private static final String ADD = "+";
+    private static final String REMOVE = "-";
+    private static final String CANCEL = "x";
+
+    private final Path directory;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private FileChannel channel;
+    private Path currentSegment;
+    private long currentSegmentBytes;
+    private long nextSegmentNumber;
+
+    private record PendingWrite(byte[] line, CompletableFuture<Void> synced) {
+    }
+
+    public BookmarkJournal(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = listSegments();
+            nextSegmentNumber = segments.isEmpty() ? 0 : segmentNumber(segments.get(segments.size() - 1)) + 1;
+            openNextSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        writer = new Thread(this::writeLoop, "bookmark-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 반환된 future 는 요청이 디스크에 fsync 된 뒤 완료된다.
+    public CompletableFuture<Void> append(BookmarkIntent intent) {
+        return enqueue(encode(intent.bookmarked() ? ADD : REMOVE, intent.userEmail(), intent.postId(), intent.requestedAt()));
+    }
+
+    // 재시작 때 이 키의 앞선 요청을 지우는 줄을 덧붙인다.
+    public CompletableFuture<Void> cancel(String userEmail, Long postId) {
+        return enqueue(encode(CANCEL, userEmail, postId, LocalDateTime.now()));
+    }
+
+    // 새 세그먼트로 전환하고 그 이전 세그먼트 목록을 반환한다.
+    // 반환된 세그먼트의 요청은 모두 전환 전에 버퍼에 들어가 있으므로, 버퍼를 DB 에 반영한 뒤 지워도 된다.
+    public synchronized List<Path> rotate() {
+        try {
+            channel.force(false);
+            channel.close();
+            openNextSegment();
+            List<Path> sealed = listSegments();
+            sealed.remove(currentSegment);
+            return sealed;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized boolean isCurrentSegmentEmpty() {
+        return currentSegmentBytes == 0;
+    }
+
+    public List<Path> segments() {
+        try {
+            return listSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(List<Path> segments) {
+        for (Path segment : segments) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                log.warn("북마크 저널 세그먼트를 지우지 못했습니다. {}", segment, e);
+            }
+        }
+    }
+
+    // 재시작 시 남아 있는 세그먼트를 순서대로 읽어 (사용자, 게시글)마다 마지막 요청만 남긴다.
+    // 취소 줄은 그 키의 앞선 요청을 지운다. 기록 도중 끊긴 마지막 줄은 건너뛴다.
+    public List<BookmarkIntent> readAll() {
+        Map<String, BookmarkIntent> latest = new LinkedHashMap<>();
+        try {
+            for (Path segment : listSegments()) {
+                for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+                    String[] fields = line.split("\t");
+                    BookmarkIntent intent = decode(fields);
+                    if (intent == null) {
+                        continue;
+                    }
+                    String key = intent.userEmail() + "\t" + intent.postId();
+                    latest.remove(key);
+                    if (!fields[0].equals(CANCEL)) {
+                        latest.put(key, intent);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    @Override
+    public void close() {
+        // 쓰기 스레드는 대기열을 비운 뒤 스스로 끝난다. FileChannel 이 닫히므로 interrupt 하지 않는다.
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            try {
+                channel.force(false);
+                channel.close();
+            } catch (IOException e) {
+                log.warn("북마크 저널을 닫지 못했습니다.", e);
+            }
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingWrite> batch = new ArrayList<>(MAX_SYNC_BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_SYNC_BATCH - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            writeAndSync(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeAndSync(List<PendingWrite> batch) {
+        int size = batch.stream().mapToInt(write -> write.line().length).sum();
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        batch.forEach(write -> buffer.put(write.line()));
+        buffer.flip();
+        try {
+            synchronized (this) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+                currentSegmentBytes += size;
+            }
+            batch.forEach(write -> write.synced().complete(null));
+        } catch (IOException | RuntimeException e) {
+            log.error("북마크 저널 기록에 실패했습니다.", e);
+            batch.forEach(write -> write.synced().completeExceptionally(e));
+        }
+    }
+
+    private void openNextSegment() throws IOException {
+        currentSegment = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSegmentNumber++, SEGMENT_SUFFIX));
+        channel = FileChannel.open(currentSegment,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        currentSegmentBytes = 0;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return new ArrayList<>(files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    private static long segmentNumber(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private CompletableFuture<Void> enqueue(byte[] line) {
+        CompletableFuture<Void> synced = new CompletableFuture<>();
+        if (!running) {
+            synced.completeExceptionally(new IllegalStateException("저널이 닫혔습니다."));
+            return synced;
+        }
+        queue.add(new PendingWrite(line, synced));
+        return synced;
+    }
+
+    // "+"(추가), "-"(삭제) 또는 "x"(취소), 사용자 이메일, 게시글 id, 요청 시각을 탭으로 구분한 한 줄
+    private static byte[] encode(String operation, String userEmail, Long postId, LocalDateTime requestedAt) {
+        String line = operation + "\t" + userEmail + "\t" + postId + "\t" + requestedAt + "\n";
+        return line.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static BookmarkIntent decode(String[] fields) {
+        if (fields.length != 4 || !(fields[0].equals(ADD) || fields[0].equals(REMOVE) || fields[0].equals(CANCEL))) {
+            return null;
+        }
+        try {
+            return new BookmarkIntent(fields[1], Long.parseLong(fields[2]), fields[0].equals(ADD),
+                    LocalDateTime.parse(fields[3]));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
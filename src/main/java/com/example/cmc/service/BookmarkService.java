@@ -2,7 +2,10 @@ package com.example.cmc.service;
 
 import com.example.cmc.dto.request.BookmarkCreateRequest;
 import com.example.cmc.dto.response.BookmarkResponse;
+import com.example.cmc.dto.response.BookmarkSummaryResponse;
+import com.example.cmc.dto.response.BookmarkToggleResponse;
 import com.example.cmc.dto.response.CategoryInfo;
+import com.example.cmc.dto.response.CursorPageResponse;
 import com.example.cmc.dto.response.PostResponse;
 import com.example.cmc.entity.Bookmark;
 import com.example.cmc.entity.Category;
@@ -15,9 +18,15 @@ import com.example.cmc.repository.CategoryRepository;
 import com.example.cmc.repository.PostCategoryRepository;
 import com.example.cmc.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -33,22 +42,42 @@ public class BookmarkService {
     private final PostRepository postRepository;
     private final PostCategoryRepository postCategoryRepository;
     private final CategoryRepository categoryRepository;
+    private final TrendingService trendingService;
+    private final BookmarkWriteBuffer bookmarkWriteBuffer;
+    private final TableRowCounter tableRowCounter;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    // 북마크 여부를 조회할 때 IN 목록 하나에 넣는 게시글 수
+    private static final int FLAG_QUERY_CHUNK_SIZE = 500;
 
     @Transactional
     public BookmarkResponse createBookmark(BookmarkCreateRequest request) {
-        if (bookmarkRepository.existsByUserEmailAndPostId(request.getUserEmail(), request.getPostId())) {
+        if (isBookmarked(request.getUserEmail(), request.getPostId())) {
             throw new BadRequestException("이미 북마크된 게시글입니다.");
         }
 
         Post post = postRepository.findById(request.getPostId())
                 .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다."));
 
+        if (bookmarkWriteBuffer.isEnabled()) {
+            bookmarkWriteBuffer.submit(request.getUserEmail(), request.getPostId(), true);
+            trendingService.recordBookmark(request.getPostId());
+            return BookmarkResponse.builder()
+                    .userEmail(request.getUserEmail())
+                    .postId(request.getPostId())
+                    .post(toPostResponse(post))
+                    .createdAt(LocalDateTime.now())
+                    .build();
+        }
+
         Bookmark bookmark = Bookmark.builder()
                 .userEmail(request.getUserEmail())
                 .postId(request.getPostId())
                 .build();
         
         Bookmark savedBookmark = bookmarkRepository.save(bookmark);
+        tableRowCounter.add(TableRowCounter.Table.BOOKMARKS, 1);
+        trendingService.recordBookmark(savedBookmark.getPostId());
         PostResponse postResponse = toPostResponse(post);
         
         return BookmarkResponse.builder()
@@ -59,66 +88,179 @@ public class BookmarkService {
                 .build();
     }
 
-    public List<BookmarkResponse> getBookmarksByUser(String userEmail) {
-        // JOIN FETCH를 사용하여 N+1 문제 해결
-        List<Bookmark> bookmarks = bookmarkRepository.findByUserEmailWithPost(userEmail);
-        
-        if (bookmarks.isEmpty()) {
-            return List.of();
+    // created_at 역순 커서 페이지. 게시글 본문 대신 요약 정보만 조회하여 페이지당 비용을 제한한다.
+    // 쓰기 지연 모드에서는 목록을 읽기 전에 이 사용자의 대기 요청을 먼저 반영해 자신의 쓰기를 항상 보게 한다.
+    public CursorPageResponse<BookmarkSummaryResponse> getBookmarkPage(String userEmail, String cursor, int size) {
+        bookmarkWriteBuffer.flushUser(userEmail);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<BookmarkSummaryResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = bookmarkRepository.findSummariesByUserEmail(userEmail, limit);
+        } else {
+            BookmarkCursor decoded = BookmarkCursor.decode(cursor);
+            rows = bookmarkRepository.findSummariesByUserEmailBefore(
+                    userEmail, decoded.createdAt(), decoded.postId(), limit);
         }
 
-        // Post ID 목록 수집
-        List<Long> postIds = bookmarks.stream()
-                .map(Bookmark::getPostId)
-                .distinct()
-                .collect(Collectors.toList());
+        boolean hasNext = rows.size() > pageSize;
+        List<BookmarkSummaryResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            BookmarkSummaryResponse last = items.get(items.size() - 1);
+            nextCursor = new BookmarkCursor(last.getBookmarkedAt(), last.getPostId()).encode();
+        }
 
-        // 배치 조회: PostCategory를 한 번에 조회
-        List<PostCategory> postCategories = postCategoryRepository.findByPostIdIn(postIds);
-        
-        // Category ID 목록 수집
-        Set<Long> categoryIds = postCategories.stream()
-                .map(PostCategory::getCategoryId)
-                .collect(Collectors.toSet());
+        return CursorPageResponse.<BookmarkSummaryResponse>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
 
-        // 배치 조회: Category를 한 번에 조회
-        Map<Long, Category> categoryMap = categoryRepository.findAllById(categoryIds).stream()
-                .collect(Collectors.toMap(Category::getId, Function.identity()));
+    // 게시글 중 조회자가 북마크한 것을 IN 쿼리로 표시한다. 페이지가 없는 전체 목록도 있으므로 IN 목록은 나눠서 보낸다.
+    public void applyBookmarkedFlags(String viewerEmail, List<PostResponse> posts) {
+        if (viewerEmail == null || posts.isEmpty()) {
+            return;
+        }
 
-        // PostCategory를 Post ID별로 그룹화
-        Map<Long, List<PostCategory>> postCategoryMap = postCategories.stream()
-                .collect(Collectors.groupingBy(PostCategory::getPostId));
-
-        // Post ID별 Post 엔티티 맵 생성
-        Map<Long, Post> postMap = bookmarks.stream()
-                .map(Bookmark::getPost)
-                .filter(post -> post != null)
-                .collect(Collectors.toMap(Post::getId, Function.identity(), (existing, replacement) -> existing));
-
-        // BookmarkResponse 생성
-        return bookmarks.stream()
-                .map(bookmark -> {
-                    Post post = postMap.get(bookmark.getPostId());
-                    PostResponse postResponse = post != null 
-                            ? toPostResponse(post, postCategoryMap.getOrDefault(bookmark.getPostId(), List.of()), categoryMap)
-                            : null;
-                    
-                    return BookmarkResponse.builder()
-                            .userEmail(bookmark.getUserEmail())
-                            .postId(bookmark.getPostId())
-                            .post(postResponse)
-                            .createdAt(bookmark.getCreatedAt())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        List<Long> postIds = posts.stream()
+                .map(PostResponse::getId)
+                .distinct()
+                .toList();
+        Set<Long> bookmarkedPostIds = new HashSet<>();
+        for (int from = 0; from < postIds.size(); from += FLAG_QUERY_CHUNK_SIZE) {
+            bookmarkedPostIds.addAll(bookmarkRepository.findPostIdsByUserEmailAndPostIdIn(
+                    viewerEmail, postIds.subList(from, Math.min(from + FLAG_QUERY_CHUNK_SIZE, postIds.size()))));
+        }
+        // 아직 DB 에 반영되지 않은 요청을 덮어쓴다.
+        bookmarkWriteBuffer.pendingStates(viewerEmail).forEach((postId, bookmarked) -> {
+            if (bookmarked) {
+                bookmarkedPostIds.add(postId);
+            } else {
+                bookmarkedPostIds.remove(postId);
+            }
+        });
+
+        posts.forEach(post -> post.setBookmarkedByViewer(bookmarkedPostIds.contains(post.getId())));
     }
 
+    // 존재 확인 없이 DELETE 한 번으로 처리하고, 영향받은 행 수로 결과를 판단한다.
     @Transactional
     public void deleteBookmark(String userEmail, Long postId) {
-        if (!bookmarkRepository.existsByUserEmailAndPostId(userEmail, postId)) {
+        if (!removeBookmark(userEmail, postId)) {
             throw new NotFoundException("북마크를 찾을 수 없습니다.");
         }
-        bookmarkRepository.deleteById(new com.example.cmc.entity.BookmarkId(userEmail, postId));
+    }
+
+    // INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 추가를 시도하고, 이미 있었으면 DELETE 한다.
+    // 추가는 한 문장이고, 동시에 토글해도 한쪽은 추가, 다른 쪽은 삭제로 정리되어 404 가 나지 않는다.
+    @Transactional
+    public BookmarkToggleResponse toggleBookmark(BookmarkCreateRequest request) {
+        String userEmail = request.getUserEmail();
+        Long postId = request.getPostId();
+        boolean bookmarked;
+        if (bookmarkWriteBuffer.isEnabled()) {
+            bookmarked = !removeBookmark(userEmail, postId);
+            if (bookmarked && !addBookmark(userEmail, postId)) {
+                throw new NotFoundException("게시글 또는 사용자를 찾을 수 없습니다.");
+            }
+        } else {
+            bookmarked = insertOrTouch(userEmail, postId);
+            if (!bookmarked) {
+                removeBookmark(userEmail, postId);
+            }
+        }
+
+        return BookmarkToggleResponse.builder()
+                .userEmail(userEmail)
+                .postId(postId)
+                .bookmarked(bookmarked)
+                .build();
+    }
+
+    // 멱등 추가: 새로 추가되었으면 true
+    @Transactional
+    public boolean addBookmark(String userEmail, Long postId) {
+        if (bookmarkWriteBuffer.isEnabled()) {
+            // DB 반영이 나중이므로 FK 대신 여기서 게시글 존재를 확인한다.
+            if (isBookmarked(userEmail, postId) || !postRepository.existsById(postId)) {
+                return false;
+            }
+            bookmarkWriteBuffer.submit(userEmail, postId, true);
+            trendingService.recordBookmark(postId);
+            return true;
+        }
+        boolean added = bookmarkRepository.insertIfAbsent(userEmail, postId, LocalDateTime.now()) > 0;
+        if (added) {
+            tableRowCounter.add(TableRowCounter.Table.BOOKMARKS, 1);
+            trendingService.recordBookmark(postId);
+        }
+        return added;
+    }
+
+    // 새로 추가했으면 true, 이미 있었으면 false
+    private boolean insertOrTouch(String userEmail, Long postId) {
+        int affected;
+        try {
+            affected = bookmarkRepository.insertOrTouch(userEmail, postId, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw new NotFoundException("게시글 또는 사용자를 찾을 수 없습니다.");
+        }
+        if (affected == 1) {
+            tableRowCounter.add(TableRowCounter.Table.BOOKMARKS, 1);
+            trendingService.recordBookmark(postId);
+            return true;
+        }
+        // 0 은 게시글이 없거나, 이미 있던 행의 값이 그대로여서 바뀐 행이 없는 경우다. 이때만 존재 여부로 가린다.
+        if (affected == 0 && !bookmarkRepository.existsByUserEmailAndPostId(userEmail, postId)) {
+            throw new NotFoundException("게시글 또는 사용자를 찾을 수 없습니다.");
+        }
+        return false;
+    }
+
+    // 멱등 삭제: 실제로 삭제되었으면 true
+    @Transactional
+    public boolean removeBookmark(String userEmail, Long postId) {
+        if (bookmarkWriteBuffer.isEnabled()) {
+            if (!isBookmarked(userEmail, postId)) {
+                return false;
+            }
+            bookmarkWriteBuffer.submit(userEmail, postId, false);
+            return true;
+        }
+        boolean removed = bookmarkRepository.deleteByUserEmailAndPostId(userEmail, postId) > 0;
+        if (removed) {
+            tableRowCounter.add(TableRowCounter.Table.BOOKMARKS, -1);
+        }
+        return removed;
+    }
+
+    // 대기 중인 요청이 있으면 그 상태가 DB 보다 최신이다.
+    private boolean isBookmarked(String userEmail, Long postId) {
+        return bookmarkWriteBuffer.pendingState(userEmail, postId)
+                .orElseGet(() -> bookmarkRepository.existsByUserEmailAndPostId(userEmail, postId));
+    }
+
+    private record BookmarkCursor(LocalDateTime createdAt, Long postId) {
+
+        String encode() {
+            String raw = createdAt + "|" + postId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static BookmarkCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new BookmarkCursor(
+                        LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new BadRequestException("잘못된 커서입니다.");
+            }
+        }
     }
 
     private PostResponse toPostResponse(Post post) {
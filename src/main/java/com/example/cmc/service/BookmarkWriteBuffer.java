@@ -0,0 +1,245 @@
+package com.example.cmc.service;
+
+import com.example.cmc.exception.ServiceUnavailableException;
+import com.example.cmc.repository.BookmarkBatchRepository;
+import com.example.cmc.repository.BookmarkIntent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 북마크 추가/삭제의 쓰기 지연(write-behind) 버퍼. bookmarks.write-behind.enabled=true 일 때만 동작한다.
+// 요청은 로컬 저널에 fsync 된 뒤 응답하고, (사용자, 게시글)마다 마지막 요청만 남겨 주기적으로 여러 행씩 DB 에 반영한다.
+@Service
+@Slf4j
+public class BookmarkWriteBuffer {
+
+    private final BookmarkBatchRepository bookmarkBatchRepository;
+    private final TableRowCounter tableRowCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long syncTimeoutMs;
+    private final BookmarkJournal journal;
+
+    // 사용자별로 묶어 두어 한 사용자의 대기 요청을 바로 찾는다.
+    private final Map<String, Map<Long, BookmarkIntent>> pendingByUser = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Autowired
+    public BookmarkWriteBuffer(BookmarkBatchRepository bookmarkBatchRepository,
+                               TableRowCounter tableRowCounter,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${bookmarks.write-behind.enabled:false}") boolean enabled,
+                               @Value("${bookmarks.write-behind.journal-dir:data/bookmark-journal}") String journalDir,
+                               @Value("${bookmarks.write-behind.sync-timeout-ms:2000}") long syncTimeoutMs) {
+        this(bookmarkBatchRepository, tableRowCounter, transactionManager,
+                enabled ? new BookmarkJournal(Path.of(journalDir)) : null, syncTimeoutMs);
+    }
+
+    BookmarkWriteBuffer(BookmarkBatchRepository bookmarkBatchRepository,
+                        TableRowCounter tableRowCounter,
+                        PlatformTransactionManager transactionManager,
+                        BookmarkJournal journal,
+                        long syncTimeoutMs) {
+        this.bookmarkBatchRepository = bookmarkBatchRepository;
+        this.tableRowCounter = tableRowCounter;
+        // 읽기 전용 트랜잭션 안에서 호출되어도 별도 트랜잭션으로 커밋한다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = journal != null;
+        this.syncTimeoutMs = syncTimeoutMs;
+        this.journal = journal;
+        if (enabled) {
+            // 이전 실행에서 반영하지 못한 요청을 다시 버퍼에 올린다. 세그먼트는 다음 전체 반영 후에 지워진다.
+            List<BookmarkIntent> recovered = journal.readAll();
+            recovered.forEach(this::putPending);
+            if (!recovered.isEmpty()) {
+                log.info("북마크 저널에서 요청 {}건을 복구했습니다.", recovered.size());
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 저널에 fsync 될 때까지 기다린다. 실패하면 버퍼를 이전 요청으로 되돌리고 503 으로 응답한다.
+    // 버퍼 갱신과 저널 대기열 추가를 같은 compute 안에서 하므로 키마다 버퍼와 저널의 순서가 같다.
+    public void submit(String userEmail, Long postId, boolean bookmarked) {
+        BookmarkIntent intent = new BookmarkIntent(userEmail, postId, bookmarked, LocalDateTime.now());
+        AtomicReference<BookmarkIntent> previous = new AtomicReference<>();
+        AtomicReference<CompletableFuture<Void>> synced = new AtomicReference<>();
+        pendingByUser.compute(userEmail, (email, pending) -> {
+            Map<Long, BookmarkIntent> updated = pending == null ? new ConcurrentHashMap<>() : pending;
+            previous.set(updated.put(postId, intent));
+            synced.set(journal.append(intent));
+            return updated;
+        });
+        try {
+            synced.get().get(syncTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            revert(intent, previous.get());
+            throw new ServiceUnavailableException("북마크를 저장하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    // 대기 중인 요청이 있으면 그 상태(true=북마크됨)를 반환한다.
+    public Optional<Boolean> pendingState(String userEmail, Long postId) {
+        Map<Long, BookmarkIntent> pending = pendingByUser.get(userEmail);
+        BookmarkIntent intent = pending == null ? null : pending.get(postId);
+        return Optional.ofNullable(intent).map(BookmarkIntent::bookmarked);
+    }
+
+    public Map<Long, Boolean> pendingStates(String userEmail) {
+        Map<Long, BookmarkIntent> pending = pendingByUser.get(userEmail);
+        if (pending == null) {
+            return Map.of();
+        }
+        Map<Long, Boolean> states = new HashMap<>();
+        pending.forEach((postId, intent) -> states.put(postId, intent.bookmarked()));
+        return states;
+    }
+
+    // 목록 조회처럼 DB 를 직접 읽어야 하는 경우 그 사용자의 대기 요청만 먼저 반영한다.
+    public void flushUser(String userEmail) {
+        if (!enabled) {
+            return;
+        }
+        Map<Long, BookmarkIntent> pending = pendingByUser.get(userEmail);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            write(new ArrayList<>(pending.values()));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bookmarks.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            if (pendingByUser.isEmpty() && journal.isCurrentSegmentEmpty()) {
+                return;
+            }
+            // 세그먼트를 먼저 닫은 뒤 버퍼를 읽으므로, 닫힌 세그먼트의 요청은 모두 이번 반영에 포함된다.
+            List<Path> sealed = journal.rotate();
+            List<BookmarkIntent> snapshot = new ArrayList<>();
+            pendingByUser.values().forEach(pending -> snapshot.addAll(pending.values()));
+            write(snapshot);
+            journal.delete(sealed);
+        } catch (RuntimeException e) {
+            log.error("북마크 쓰기 지연 버퍼를 DB 에 반영하지 못했습니다. 다음 주기에 다시 시도합니다.", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        // 저널을 닫아 남은 기록을 마친 뒤 버퍼 전체를 반영하고, 성공하면 세그먼트를 모두 지운다.
+        journal.close();
+        flushLock.lock();
+        try {
+            List<BookmarkIntent> snapshot = new ArrayList<>();
+            pendingByUser.values().forEach(pending -> snapshot.addAll(pending.values()));
+            write(snapshot);
+            journal.delete(journal.segments());
+        } catch (RuntimeException e) {
+            log.error("종료 중 북마크 버퍼를 반영하지 못했습니다. 다음 실행에서 저널로 복구합니다.", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    int getPendingCount() {
+        return pendingByUser.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void write(List<BookmarkIntent> intents) {
+        if (intents.isEmpty()) {
+            return;
+        }
+        // 반영할 수 없는 추가 요청(삭제된 게시글 등)은 insertAll 이 건너뛰므로 묶음 전체가 막히지 않는다.
+        writeBatch(intents);
+        // 반영하는 동안 같은 키에 새 요청이 들어왔으면 그 요청은 남겨 둔다.
+        intents.forEach(this::removePending);
+    }
+
+    private void writeBatch(List<BookmarkIntent> intents) {
+        List<BookmarkIntent> additions = intents.stream().filter(BookmarkIntent::bookmarked).toList();
+        List<BookmarkIntent> removals = intents.stream().filter(intent -> !intent.bookmarked()).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            int changed = 0;
+            if (!removals.isEmpty()) {
+                changed -= bookmarkBatchRepository.deleteAll(removals);
+            }
+            if (!additions.isEmpty()) {
+                changed += bookmarkBatchRepository.insertAll(additions);
+            }
+            tableRowCounter.add(TableRowCounter.Table.BOOKMARKS, changed);
+        });
+    }
+
+    private void putPending(BookmarkIntent intent) {
+        pendingByUser.compute(intent.userEmail(), (userEmail, pending) -> {
+            Map<Long, BookmarkIntent> updated = pending == null ? new ConcurrentHashMap<>() : pending;
+            updated.put(intent.postId(), intent);
+            return updated;
+        });
+    }
+
+    // 실패한 요청이 아직 마지막 요청이면 이전 요청(없으면 빈 상태)으로 되돌린다.
+    // 시간 초과된 줄은 뒤늦게 저널에 기록될 수 있으므로 그 뒤에 되돌린 상태를 적어 재시작 때 살아나지 않게 한다.
+    private void revert(BookmarkIntent failed, BookmarkIntent previous) {
+        pendingByUser.computeIfPresent(failed.userEmail(), (userEmail, pending) -> {
+            if (!failed.equals(pending.get(failed.postId()))) {
+                return pending;
+            }
+            if (previous != null) {
+                pending.put(failed.postId(), previous);
+                journal.append(previous);
+            } else {
+                pending.remove(failed.postId());
+                journal.cancel(failed.userEmail(), failed.postId());
+            }
+            return pending.isEmpty() ? null : pending;
+        });
+    }
+
+    private void removePending(BookmarkIntent intent) {
+        pendingByUser.computeIfPresent(intent.userEmail(), (userEmail, pending) -> {
+            pending.remove(intent.postId(), intent);
+            return pending.isEmpty() ? null : pending;
+        });
+    }
+}
@@ -4,12 +4,15 @@ import com.example.cmc.dto.request.CategoryCreateRequest;
 import com.example.cmc.dto.request.CategoryUpdateRequest;
 import com.example.cmc.dto.response.CategoryResponse;
 import com.example.cmc.entity.Category;
+import com.example.cmc.exception.ConflictException;
 import com.example.cmc.exception.NotFoundException;
 import com.example.cmc.repository.CategoryRepository;
+import com.example.cmc.repository.ResourceVersion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,6 +22,7 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final TableRowCounter tableRowCounter;
 
     @Transactional
     public CategoryResponse createCategory(CategoryCreateRequest request) {
@@ -27,9 +31,14 @@ public class CategoryService {
                 .build();
         
         Category savedCategory = categoryRepository.save(category);
+        tableRowCounter.add(TableRowCounter.Table.CATEGORIES, 1);
         return toResponse(savedCategory);
     }
 
+    public ResourceVersion getCategoriesVersion() {
+        return categoryRepository.findVersion();
+    }
+
     public List<CategoryResponse> getAllCategories() {
         List<Category> categories = categoryRepository.findAll();
         return categories.stream()
@@ -45,11 +54,21 @@ public class CategoryService {
 
     @Transactional
     public CategoryResponse updateCategory(Long id, CategoryUpdateRequest request) {
-        Category category = categoryRepository.findById(id)
+        return updateCategory(id, request, null);
+    }
+
+    // 조회 없이 조건부 UPDATE 한 문장으로 수정한다. expectedVersion 이 주어지면 버전이 다를 때 409 로 거절한다.
+    @Transactional
+    public CategoryResponse updateCategory(Long id, CategoryUpdateRequest request, Long expectedVersion) {
+        int updated = categoryRepository.updateIfVersionMatches(id, expectedVersion, request.getName(), LocalDateTime.now());
+        if (updated == 0) {
+            Long currentVersion = categoryRepository.findCurrentVersionById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
+            throw new ConflictException("다른 사용자가 먼저 카테고리를 수정했습니다.", currentVersion);
+        }
+
+        Category updatedCategory = categoryRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
-        
-        category.setName(request.getName());
-        Category updatedCategory = categoryRepository.save(category);
         return toResponse(updatedCategory);
     }
 
@@ -59,6 +78,7 @@ public class CategoryService {
             throw new NotFoundException("카테고리를 찾을 수 없습니다.");
         }
         categoryRepository.deleteById(id);
+        tableRowCounter.add(TableRowCounter.Table.CATEGORIES, -1);
     }
 
     private CategoryResponse toResponse(Category category) {
@@ -67,6 +87,7 @@ public class CategoryService {
                 .name(category.getName())
                 .createdAt(category.getCreatedAt())
                 .updatedAt(category.getUpdatedAt())
+                .version(category.getVersion())
                 .build();
     }
 }
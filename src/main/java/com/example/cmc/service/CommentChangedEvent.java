@@ -0,0 +1,22 @@
+package com.example.cmc.service;
+
+import com.example.cmc.dto.response.CommentResponse;
+
+public record CommentChangedEvent(Type type, CommentResponse comment) {
+
+    public enum Type {
+        CREATED("comment-created"),
+        UPDATED("comment-updated"),
+        DELETED("comment-deleted");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String getEventName() {
+            return eventName;
+        }
+    }
+}
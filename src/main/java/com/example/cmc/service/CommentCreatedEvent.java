@@ -0,0 +1,6 @@
+package com.example.cmc.service;
+
+import java.time.LocalDateTime;
+
+public record CommentCreatedEvent(Long commentId, Long postId, String authorEmail, LocalDateTime createdAt) {
+}
@@ -0,0 +1,27 @@
+package com.example.cmc.service;
+
+// 댓글 경로는 루트부터 자기 자신까지의 id 를 SEGMENT_LENGTH 자리로 0을 채워 이어 붙인 문자열이다.
+// 자릿수가 같으므로 문자열 정렬이 스레드 순서와 같고, 하위 댓글은 모두 같은 접두어를 가진다.
+public final class CommentPath {
+
+    public static final int SEGMENT_LENGTH = 10;
+    // comments.path VARCHAR(760) 에 들어가는 최대 깊이(0부터 시작)
+    public static final int MAX_DEPTH = 760 / SEGMENT_LENGTH - 1;
+
+    private CommentPath() {
+    }
+
+    public static String child(String parentPath, long id) {
+        String segment = String.format("%0" + SEGMENT_LENGTH + "d", id);
+        return parentPath == null ? segment : parentPath + segment;
+    }
+
+    public static int depth(String path) {
+        return path.length() / SEGMENT_LENGTH - 1;
+    }
+
+    // 자기 자신과 모든 하위 댓글에 맞는 LIKE 패턴. 경로는 숫자뿐이라 이스케이프가 필요 없다.
+    public static String subtreePattern(String path) {
+        return path + "%";
+    }
+}
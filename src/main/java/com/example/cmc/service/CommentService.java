@@ -3,16 +3,25 @@ package com.example.cmc.service;
 import com.example.cmc.dto.request.CommentCreateRequest;
 import com.example.cmc.dto.request.CommentUpdateRequest;
 import com.example.cmc.dto.response.CommentResponse;
+import com.example.cmc.dto.response.CommentThreadResponse;
 import com.example.cmc.entity.Comment;
 import com.example.cmc.entity.User;
 import com.example.cmc.repository.CommentRepository;
+import com.example.cmc.repository.CommentTreeRepository;
+import com.example.cmc.repository.PostRepository;
+import com.example.cmc.repository.ResourceVersion;
 import com.example.cmc.repository.UserRespository;
+import com.example.cmc.exception.BadRequestException;
+import com.example.cmc.exception.ConflictException;
 import com.example.cmc.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,10 +30,33 @@ import java.util.stream.Collectors;
 public class CommentService {
 
     private final CommentRepository commentRepository;
+    private final CommentTreeRepository commentTreeRepository;
+    private final PostRepository postRepository;
     private final UserRespository userRespository;
+    private final TrendingService trendingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TableRowCounter tableRowCounter;
 
+    // 답글은 부모와 같은 게시글에만 달 수 있고, 경로 길이 제한 때문에 깊이는 CommentPath.MAX_DEPTH 까지다.
+    // 삭제 표시된 게시글은 FK 로 걸러지지 않으므로 존재 확인(@SQLRestriction 적용)으로 막는다.
     @Transactional
     public CommentResponse createComment(CommentCreateRequest request) {
+        if (!postRepository.existsById(request.getPostId())) {
+            throw new NotFoundException("게시글을 찾을 수 없습니다.");
+        }
+        String parentPath = null;
+        if (request.getParentId() != null) {
+            Comment parent = commentRepository.findById(request.getParentId())
+                    .orElseThrow(() -> new NotFoundException("부모 댓글을 찾을 수 없습니다."));
+            if (!parent.getPostId().equals(request.getPostId())) {
+                throw new BadRequestException("같은 게시글의 댓글에만 답글을 달 수 있습니다.");
+            }
+            if (parent.getDepth() >= CommentPath.MAX_DEPTH) {
+                throw new BadRequestException("더 이상 답글을 달 수 없습니다.");
+            }
+            parentPath = parent.getPath();
+        }
+
         Comment comment = Comment.builder()
                 .content(request.getContent())
                 .authorEmail(request.getAuthorEmail())
@@ -33,7 +65,17 @@ public class CommentService {
                 .build();
         
         Comment savedComment = commentRepository.save(comment);
-        return toResponse(savedComment);
+        tableRowCounter.add(TableRowCounter.Table.COMMENTS, 1);
+        String path = CommentPath.child(parentPath, savedComment.getId());
+        commentRepository.updatePath(savedComment.getId(), path, CommentPath.depth(path));
+        savedComment.setPath(path);
+        savedComment.setDepth(CommentPath.depth(path));
+        trendingService.recordComment(savedComment.getPostId());
+        eventPublisher.publishEvent(new CommentCreatedEvent(
+                savedComment.getId(), savedComment.getPostId(), savedComment.getAuthorEmail(), savedComment.getCreatedAt()));
+        CommentResponse response = toResponse(savedComment);
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.CREATED, response));
+        return response;
     }
 
     public List<CommentResponse> getCommentsByPostId(Long postId) {
@@ -43,28 +85,118 @@ public class CommentService {
                 .collect(Collectors.toList());
     }
 
+    // 댓글과 그 하위 답글을 스레드 순서로 반환한다. maxDepth 가 주어지면 루트로부터 그 깊이까지만 읽는다.
+    public CommentThreadResponse getThread(Long id, Integer maxDepth) {
+        if (maxDepth != null && maxDepth < 0) {
+            throw new BadRequestException("maxDepth 는 0 이상이어야 합니다.");
+        }
+        Comment root = commentRepository.findVisibleById(id)
+                .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다."));
+
+        String pattern = CommentPath.subtreePattern(root.getPath());
+        List<Comment> comments;
+        long descendantCount;
+        if (maxDepth == null) {
+            comments = commentRepository.findSubtree(root.getPostId(), pattern);
+            descendantCount = comments.size() - 1;
+        } else {
+            comments = commentRepository.findSubtreeWithinDepth(root.getPostId(), pattern, root.getDepth() + maxDepth);
+            descendantCount = commentRepository.countDescendants(id, root.getPostId(), pattern);
+        }
+
+        return CommentThreadResponse.builder()
+                .rootId(id)
+                .descendantCount(descendantCount)
+                .comments(comments.stream()
+                        .map(this::toResponse)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    public ResourceVersion getCommentsVersion(Long postId) {
+        return commentRepository.findVersionByPostId(postId);
+    }
+
     public CommentResponse getCommentById(Long id) {
-        Comment comment = commentRepository.findById(id)
+        Comment comment = commentRepository.findVisibleById(id)
                 .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다."));
         return toResponse(comment);
     }
 
     @Transactional
     public CommentResponse updateComment(Long id, CommentUpdateRequest request) {
-        Comment comment = commentRepository.findById(id)
+        return updateComment(id, request, null);
+    }
+
+    // 조회 없이 조건부 UPDATE 한 문장으로 수정한다. expectedVersion 이 주어지면 버전이 다를 때 409 로 거절한다.
+    @Transactional
+    public CommentResponse updateComment(Long id, CommentUpdateRequest request, Long expectedVersion) {
+        int updated = commentRepository.updateIfVersionMatches(id, expectedVersion, request.getContent(), LocalDateTime.now());
+        if (updated == 0) {
+            Long currentVersion = commentRepository.findCurrentVersionById(id)
+                    .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다."));
+            throw new ConflictException("다른 사용자가 먼저 댓글을 수정했습니다.", currentVersion);
+        }
+
+        // 실시간 이벤트는 게시글 id 로 구독자를 찾고 댓글 전체를 보내는데 요청에는 게시글 id 가 없으므로 다시 조회한다.
+        Comment updatedComment = commentRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다."));
+        CommentResponse response = toResponse(updatedComment);
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.UPDATED, response));
+        return response;
+    }
 
-        comment.setContent(request.getContent());
-        Comment updatedComment = commentRepository.save(comment);
-        return toResponse(updatedComment);
+    // SUBTREE 는 댓글과 모든 하위 답글을 지우고, TOMBSTONE 은 댓글 행을 남긴 채 내용만 비워 스레드 모양을 유지한다.
+    public enum DeleteMode {
+        SUBTREE, TOMBSTONE
     }
 
     @Transactional
     public void deleteComment(Long id) {
-        if (!commentRepository.existsById(id)) {
-            throw new NotFoundException("댓글을 찾을 수 없습니다.");
+        deleteComment(id, DeleteMode.SUBTREE);
+    }
+
+    @Transactional
+    public void deleteComment(Long id, String mode) {
+        deleteComment(id, parseDeleteMode(mode));
+    }
+
+    // 답글 트리를 엔티티로 불러오지 않는다. SUBTREE 는 트리 크기와 상관없이 경로 접두어 범위에 대한 두 문장으로 끝난다.
+    @Transactional
+    public void deleteComment(Long id, DeleteMode mode) {
+        Comment comment = commentRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다."));
+
+        if (mode == DeleteMode.TOMBSTONE) {
+            if (commentRepository.tombstoneById(id, LocalDateTime.now()) == 0) {
+                return;
+            }
+            Comment tombstone = commentRepository.findById(id)
+                    .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다."));
+            eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.UPDATED, toResponse(tombstone)));
+            return;
+        }
+
+        int deleted = commentTreeRepository.deleteSubtree(
+                comment.getPostId(), CommentPath.subtreePattern(comment.getPath()));
+        tableRowCounter.add(TableRowCounter.Table.COMMENTS, -deleted);
+        // 클라이언트는 루트 댓글 요소를 지우면 그 아래 답글도 함께 사라지므로 루트에 대한 이벤트 하나만 보낸다.
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.DELETED, CommentResponse.builder()
+                .id(comment.getId())
+                .postId(comment.getPostId())
+                .parentId(comment.getParentId())
+                .build()));
+    }
+
+    private static DeleteMode parseDeleteMode(String mode) {
+        if (mode == null || mode.isBlank()) {
+            return DeleteMode.SUBTREE;
+        }
+        try {
+            return DeleteMode.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("삭제 모드는 subtree 또는 tombstone 이어야 합니다.");
         }
-        commentRepository.deleteById(id);
     }
 
     private CommentResponse toResponse(Comment comment) {
@@ -83,8 +215,11 @@ public class CommentService {
                 .authorNickname(authorNickname)
                 .postId(comment.getPostId())
                 .parentId(comment.getParentId())
+                .depth(comment.getDepth())
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
+                .version(comment.getVersion())
+                .deleted(comment.getDeletedAt() != null)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.example.cmc.service;
+
+import com.example.cmc.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 게시글별 구독자 목록을 들고 댓글 변경을 SSE 로 전달한다.
+// 대기 중인 구독자는 비동기 요청으로만 유지되어 스레드나 DB 조회를 쓰지 않는다.
+// 이벤트는 한 번만 직렬화해 구독자별 고정 크기 버퍼에 넣고 전송은 별도 스레드가 하며,
+// 버퍼가 넘치는 느린 구독자는 연결을 끊는다.
+@Service
+@Slf4j
+public class CommentStreamService {
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final JsonMapper jsonMapper;
+    private final Map<Long, List<Subscriber>> subscribersByPost = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int maxSubscribers;
+
+    public CommentStreamService(JsonMapper jsonMapper,
+                                @Value("${comments.stream.timeout-ms:1800000}") long timeoutMillis,
+                                @Value("${comments.stream.buffer-size:32}") int bufferSize,
+                                @Value("${comments.stream.max-subscribers:10000}") int maxSubscribers,
+                                @Value("${comments.stream.sender-threads:2}") int senderThreads) {
+        this.jsonMapper = jsonMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "comment-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(Long postId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("실시간 댓글 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(postId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        // 목록이 비어 지워지는 것과 겹치지 않도록 추가와 제거는 게시글 키 단위로 원자적으로 한다.
+        subscribersByPost.compute(postId, (id, subscribers) -> {
+            List<Subscriber> updated = subscribers != null ? subscribers : new CopyOnWriteArrayList<>();
+            updated.add(subscriber);
+            return updated;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        // 연결 직후 응답 헤더를 내보내도록 첫 이벤트를 보낸다.
+        enqueue(subscriber, SseEmitter.event().name("connected").data(String.valueOf(postId)).build());
+        return emitter;
+    }
+
+    // 커밋된 변경만 전달한다. 여기서는 버퍼에 넣기만 하므로 커밋 스레드를 오래 잡지 않는다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        List<Subscriber> subscribers = subscribersByPost.get(event.comment().getPostId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> sseEvent = SseEmitter.event()
+                .id(String.valueOf(event.comment().getId()))
+                .name(event.type().getEventName())
+                .data(jsonMapper.writeValueAsString(event.comment()))
+                .build();
+        subscribers.forEach(subscriber -> enqueue(subscriber, sseEvent));
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료를 막고 끊긴 클라이언트를 정리한다.
+    @Scheduled(fixedDelayString = "${comments.stream.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        subscribersByPost.values().forEach(subscribers -> subscribers.forEach(subscriber -> enqueue(subscriber, HEARTBEAT)));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribersByPost.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter().complete()));
+        sender.shutdownNow();
+    }
+
+    private void enqueue(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (!subscriber.buffer().offer(event)) {
+            log.debug("느린 구독자의 버퍼가 가득 차 연결을 종료합니다. postId={}", subscriber.postId());
+            remove(subscriber);
+            subscriber.emitter().complete();
+            return;
+        }
+        if (subscriber.draining().compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining().set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while ((event = subscriber.buffer().poll()) != null) {
+                subscriber.emitter().send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining().set(false);
+        }
+        // 드레인을 끝내는 사이에 들어온 이벤트를 놓치지 않도록 다시 확인한다.
+        if (!subscriber.buffer().isEmpty() && subscriber.draining().compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining().set(false);
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribersByPost.computeIfPresent(subscriber.postId(), (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private record Subscriber(Long postId, SseEmitter emitter, BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer,
+                              AtomicBoolean draining) {
+        Subscriber(Long postId, SseEmitter emitter, BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer) {
+            this(postId, emitter, buffer, new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.cmc.service;
+
+import com.example.cmc.dto.request.PoolResizeRequest;
+import com.example.cmc.dto.response.PoolStatsResponse;
+import com.example.cmc.exception.BadRequestException;
+import com.example.cmc.exception.NotFoundException;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 커넥션 풀(요청용, 배치용)의 현재 상태를 보여 주고 실행 중에 크기와 누수 감지 시간을 바꾼다.
+@Service
+@Slf4j
+public class ConnectionPoolService {
+
+    private static final long MIN_LEAK_DETECTION_MS = 2000;
+
+    private final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+    private final int maxSizeLimit;
+
+    public ConnectionPoolService(List<HikariDataSource> dataSources,
+                                 @Value("${db.pool.max-size-limit:100}") int maxSizeLimit) {
+        dataSources.forEach(dataSource -> pools.put(dataSource.getPoolName(), dataSource));
+        this.maxSizeLimit = maxSizeLimit;
+    }
+
+    public List<PoolStatsResponse> getPools() {
+        return pools.values().stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    public PoolStatsResponse getPool(String name) {
+        return toResponse(findPool(name));
+    }
+
+    // HikariConfigMXBean 으로 바꾼 값은 실행 중인 풀에 그대로 반영된다.
+    // 최대 크기를 현재 커넥션 수보다 작게 줄이면 모든 커넥션을 교체 대상으로 표시해 유휴 커넥션은 바로, 사용 중인 커넥션은 반납될 때 닫는다.
+    // 최소 유휴 수와 누수 감지 시간은 다음 하우스키핑(30초 주기) 때 적용된다.
+    public synchronized PoolStatsResponse resize(String name, PoolResizeRequest request) {
+        HikariDataSource dataSource = findPool(name);
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+
+        int maximumPoolSize = request.getMaximumPoolSize() != null
+                ? request.getMaximumPoolSize() : config.getMaximumPoolSize();
+        int minimumIdle = request.getMinimumIdle() != null
+                ? request.getMinimumIdle() : Math.min(config.getMinimumIdle(), maximumPoolSize);
+        long leakDetectionThresholdMs = request.getLeakDetectionThresholdMs() != null
+                ? request.getLeakDetectionThresholdMs() : config.getLeakDetectionThreshold();
+
+        if (maximumPoolSize < 1 || maximumPoolSize > maxSizeLimit) {
+            throw new BadRequestException("최대 풀 크기는 1 이상 " + maxSizeLimit + " 이하여야 합니다.");
+        }
+        if (minimumIdle < 0 || minimumIdle > maximumPoolSize) {
+            throw new BadRequestException("최소 유휴 커넥션 수는 0 이상 최대 풀 크기 이하여야 합니다.");
+        }
+        if (leakDetectionThresholdMs != 0 && leakDetectionThresholdMs < MIN_LEAK_DETECTION_MS) {
+            throw new BadRequestException("누수 감지 시간은 0(끔) 또는 " + MIN_LEAK_DETECTION_MS + "ms 이상이어야 합니다.");
+        }
+
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(minimumIdle);
+        config.setLeakDetectionThreshold(leakDetectionThresholdMs);
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool != null && pool.getTotalConnections() > maximumPoolSize) {
+            pool.softEvictConnections();
+        }
+        log.info("커넥션 풀 {} 설정을 변경했습니다. 최대 {}, 최소 유휴 {}, 누수 감지 {}ms",
+                name, maximumPoolSize, minimumIdle, leakDetectionThresholdMs);
+        return toResponse(dataSource);
+    }
+
+    private HikariDataSource findPool(String name) {
+        HikariDataSource dataSource = pools.get(name);
+        if (dataSource == null) {
+            throw new NotFoundException("커넥션 풀을 찾을 수 없습니다.");
+        }
+        return dataSource;
+    }
+
+    // 풀은 첫 커넥션 요청 때 만들어지므로 그 전에는 커넥션 수를 0 으로 보여 준다.
+    private PoolStatsResponse toResponse(HikariDataSource dataSource) {
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return PoolStatsResponse.builder()
+                .name(dataSource.getPoolName())
+                .activeConnections(pool != null ? pool.getActiveConnections() : 0)
+                .idleConnections(pool != null ? pool.getIdleConnections() : 0)
+                .totalConnections(pool != null ? pool.getTotalConnections() : 0)
+                .threadsAwaitingConnection(pool != null ? pool.getThreadsAwaitingConnection() : 0)
+                .saturation(pool != null ? (double) pool.getActiveConnections() / config.getMaximumPoolSize() : 0)
+                .maximumPoolSize(config.getMaximumPoolSize())
+                .minimumIdle(config.getMinimumIdle())
+                .leakDetectionThresholdMs(config.getLeakDetectionThreshold())
+                .connectionTimeoutMs(config.getConnectionTimeout())
+                .build();
+    }
+}
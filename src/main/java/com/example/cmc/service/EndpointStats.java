@@ -0,0 +1,79 @@
+package com.example.cmc.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 엔드포인트 하나의 최근 WINDOW_SECONDS 초 통계를 1초 칸으로 나눠 담는 고리 버퍼.
+// 칸은 처음 만든 배열을 계속 재사용하므로 기록할 때 객체를 만들지 않는다.
+// 새 초로 넘어가며 칸을 비우는 순간 동시에 들어온 기록 몇 건은 잃을 수 있다. 대시보드용 근사값이다.
+final class EndpointStats {
+
+    static final int WINDOW_SECONDS = 60;
+
+    // 진행 중인 초의 칸은 집계에서 빼므로 한 칸을 더 둔다.
+    private static final int SLOTS = WINDOW_SECONDS + 1;
+
+    private final String name;
+    private final AtomicLongArray seconds = new AtomicLongArray(SLOTS);
+    private final AtomicLongArray counts = new AtomicLongArray(SLOTS);
+    private final AtomicLongArray errors = new AtomicLongArray(SLOTS);
+    private final AtomicLongArray totalNanos = new AtomicLongArray(SLOTS);
+    private final AtomicLongArray maxNanos = new AtomicLongArray(SLOTS);
+
+    EndpointStats(String name) {
+        this.name = name;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            seconds.set(slot, Long.MIN_VALUE);
+        }
+    }
+
+    record Snapshot(String name, long count, long errors, long totalNanos, long maxNanos) {
+    }
+
+    String getName() {
+        return name;
+    }
+
+    void record(long second, long nanos, boolean error) {
+        int slot = Math.floorMod(second, SLOTS);
+        long current = seconds.get(slot);
+        if (current != second) {
+            // 한 바퀴 넘게 늦게 끝난 요청은 이미 다른 초가 쓰는 칸이므로 버린다.
+            if (current > second) {
+                return;
+            }
+            if (seconds.compareAndSet(slot, current, second)) {
+                counts.set(slot, 0);
+                errors.set(slot, 0);
+                totalNanos.set(slot, 0);
+                maxNanos.set(slot, 0);
+            }
+        }
+        counts.incrementAndGet(slot);
+        totalNanos.addAndGet(slot, nanos);
+        if (error) {
+            errors.incrementAndGet(slot);
+        }
+        long max;
+        while ((max = maxNanos.get(slot)) < nanos && !maxNanos.compareAndSet(slot, max, nanos)) {
+            // 더 큰 값이 들어올 때까지 다시 시도
+        }
+    }
+
+    // currentSecond 직전까지 끝난 WINDOW_SECONDS 초를 합친다.
+    Snapshot snapshot(long currentSecond) {
+        long count = 0;
+        long errorCount = 0;
+        long total = 0;
+        long max = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            long second = seconds.get(slot);
+            if (second >= currentSecond - WINDOW_SECONDS && second < currentSecond) {
+                count += counts.get(slot);
+                errorCount += errors.get(slot);
+                total += totalNanos.get(slot);
+                max = Math.max(max, maxNanos.get(slot));
+            }
+        }
+        return new Snapshot(name, count, errorCount, total, max);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.cmc.service;
+
+import com.example.cmc.dto.response.CursorPageResponse;
+import com.example.cmc.dto.response.FeedItemResponse;
+import com.example.cmc.exception.BadRequestException;
+import com.example.cmc.repository.FeedRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 댓글 알림 피드. 댓글이 커밋되면 게시글 작성자와 북마크한 사용자의 피드에 비동기로 기록하고(fan-out-on-write),
+// 북마크한 사용자가 hotPostThreshold 이상인 게시글은 복제 대신 조회 시점에 합쳐(fan-out-on-read) 쓰기 증폭을 제한한다.
+@Service
+@Slf4j
+public class FeedService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final FeedRepository feedRepository;
+    private final int hotPostThreshold;
+    private final int batchSize;
+
+    public FeedService(FeedRepository feedRepository,
+                       @Value("${feed.hot-post-threshold:1000}") int hotPostThreshold,
+                       @Value("${feed.fanout-batch-size:500}") int batchSize) {
+        this.feedRepository = feedRepository;
+        this.hotPostThreshold = hotPostThreshold;
+        this.batchSize = batchSize;
+    }
+
+    @Async("feedExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        LocalDateTime createdAt = event.createdAt() != null ? event.createdAt() : LocalDateTime.now();
+
+        String postAuthorEmail = feedRepository.findPostAuthorEmail(event.postId());
+        if (postAuthorEmail == null) {
+            return;
+        }
+        if (!postAuthorEmail.equals(event.authorEmail())) {
+            feedRepository.insertEntries(List.of(postAuthorEmail), event.commentId(), event.postId(), createdAt);
+        }
+
+        if (feedRepository.isHotPost(event.postId())) {
+            return;
+        }
+        if (feedRepository.countBookmarkersUpTo(event.postId(), hotPostThreshold) >= hotPostThreshold) {
+            feedRepository.markHotPost(event.postId(), LocalDateTime.now());
+            log.info("북마크가 많은 게시글 {}을 조회 시점 병합 대상으로 전환했습니다.", event.postId());
+            return;
+        }
+
+        String after = "";
+        while (true) {
+            List<String> bookmarkers = feedRepository.findBookmarkerEmails(event.postId(), after, batchSize);
+            if (bookmarkers.isEmpty()) {
+                break;
+            }
+            List<String> recipients = bookmarkers.stream()
+                    .filter(email -> !email.equals(event.authorEmail()) && !email.equals(postAuthorEmail))
+                    .toList();
+            if (!recipients.isEmpty()) {
+                feedRepository.insertEntries(recipients, event.commentId(), event.postId(), createdAt);
+            }
+            if (bookmarkers.size() < batchSize) {
+                break;
+            }
+            after = bookmarkers.get(bookmarkers.size() - 1);
+        }
+    }
+
+    // 복제된 피드와 hot 게시글의 댓글을 댓글 id 내림차순으로 병합한다. 커서는 마지막 댓글 id 이다.
+    public CursorPageResponse<FeedItemResponse> getFeed(String userEmail, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long beforeCommentId = parseCursor(cursor);
+
+        TreeSet<Long> commentIds = new TreeSet<>(Comparator.reverseOrder());
+        commentIds.addAll(feedRepository.findInboxCommentIds(userEmail, beforeCommentId, pageSize + 1));
+        commentIds.addAll(feedRepository.findHotPostCommentIds(userEmail, beforeCommentId, pageSize + 1));
+
+        List<Long> pageIds = new ArrayList<>(pageSize);
+        for (Long commentId : commentIds) {
+            if (pageIds.size() == pageSize) {
+                break;
+            }
+            pageIds.add(commentId);
+        }
+        boolean hasNext = commentIds.size() > pageSize;
+
+        List<FeedItemResponse> items = List.of();
+        if (!pageIds.isEmpty()) {
+            Map<Long, FeedItemResponse> itemsById = feedRepository.findItems(pageIds).stream()
+                    .collect(Collectors.toMap(FeedItemResponse::getCommentId, Function.identity()));
+            items = pageIds.stream()
+                    .map(itemsById::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        return CursorPageResponse.<FeedItemResponse>builder()
+                .items(items)
+                .nextCursor(hasNext ? String.valueOf(pageIds.get(pageIds.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private static long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+}
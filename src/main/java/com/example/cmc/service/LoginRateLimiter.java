@@ -0,0 +1,108 @@
+package com.example.cmc.service;
+
+import com.example.cmc.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// IP, 이메일 단위 로그인 시도 제한.
+// 각 키는 GCRA(토큰 버킷과 동일한 동작)로 관리하며 AtomicLong 하나에 다음 허용 시각을 저장해 락 없이 갱신한다.
+@Service
+public class LoginRateLimiter {
+
+    static final String LIMITED_MESSAGE = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final Limit ipLimit;
+    private final Limit emailLimit;
+    private final Counter ipRejections;
+    private final Counter emailRejections;
+
+    public LoginRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${auth.rate-limit.ip.permits-per-minute:30}") int ipPermitsPerMinute,
+            @Value("${auth.rate-limit.ip.burst:10}") int ipBurst,
+            @Value("${auth.rate-limit.email.permits-per-minute:10}") int emailPermitsPerMinute,
+            @Value("${auth.rate-limit.email.burst:5}") int emailBurst) {
+        this.ipLimit = new Limit(ipPermitsPerMinute, ipBurst);
+        this.emailLimit = new Limit(emailPermitsPerMinute, emailBurst);
+        this.ipRejections = Counter.builder("auth.login.rate_limited")
+                .tag("scope", "ip")
+                .register(meterRegistry);
+        this.emailRejections = Counter.builder("auth.login.rate_limited")
+                .tag("scope", "email")
+                .register(meterRegistry);
+    }
+
+    public void checkIp(String ip) {
+        long retryAfterNanos = ipLimit.tryAcquire(ip, System.nanoTime());
+        if (retryAfterNanos > 0) {
+            ipRejections.increment();
+            throw new TooManyRequestsException(LIMITED_MESSAGE, toRetryAfterSeconds(retryAfterNanos));
+        }
+    }
+
+    public void checkEmail(String email) {
+        if (email == null) {
+            return;
+        }
+        long retryAfterNanos = emailLimit.tryAcquire(email.toLowerCase(Locale.ROOT), System.nanoTime());
+        if (retryAfterNanos > 0) {
+            emailRejections.increment();
+            throw new TooManyRequestsException(LIMITED_MESSAGE, toRetryAfterSeconds(retryAfterNanos));
+        }
+    }
+
+    // 버킷이 가득 찬(다음 허용 시각이 지난) 키는 상태가 없는 것과 같으므로 제거한다.
+    @Scheduled(fixedDelayString = "${auth.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        ipLimit.evictIdle(now);
+        emailLimit.evictIdle(now);
+    }
+
+    private static long toRetryAfterSeconds(long retryAfterNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    static final class Limit {
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+        Limit(int permitsPerMinute, int burst) {
+            this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, permitsPerMinute);
+            this.burstToleranceNanos = emissionIntervalNanos * (Math.max(1, burst) - 1);
+        }
+
+        // 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초를 반환한다.
+        long tryAcquire(String key, long now) {
+            AtomicLong theoreticalArrival = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+            while (true) {
+                long current = theoreticalArrival.get();
+                long arrival = Math.max(current, now);
+                long allowedAt = arrival - burstToleranceNanos;
+                if (allowedAt > now) {
+                    return allowedAt - now;
+                }
+                if (theoreticalArrival.compareAndSet(current, arrival + emissionIntervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+
+        void evictIdle(long now) {
+            buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+        }
+
+        int size() {
+            return buckets.size();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.cmc.service;
+
+import com.example.cmc.repository.PerfDataRepository;
+import com.example.cmc.repository.PerfDataRepository.Inserter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+// 성능 테스트용 사용자, 카테고리, 게시글, 댓글, 북마크를 만든다. 같은 seed 와 크기면 항상 같은 데이터가 나온다.
+// id 를 1부터 직접 지정하므로 벤치마크와 부하 테스트가 DB 를 조회하지 않고도 대상 id 를 알 수 있다.
+// 작성자, 카테고리, 댓글 수, 북마크 대상은 소수에 몰리는 치우친 분포로 뽑는다.
+@Service
+@Slf4j
+public class PerfDataGenerator {
+
+    // "password1" 의 BCrypt(cost 10) 해시. 사용자마다 해싱하면 생성 시간 대부분이 해싱에 쓰이므로 고정값을 쓴다.
+    public static final String PASSWORD = "password1";
+    private static final String PASSWORD_HASH = "$2a$10$0ScLC9hFGKQq2CwmFqrv6OpZ3NSuJ7OMcyNf8DdfBk2RPVHU5td2i";
+
+    private static final String[] WORDS = {
+            "성능", "테스트", "게시판", "댓글", "북마크", "카테고리", "서버", "데이터베이스", "인덱스", "캐시",
+            "트래픽", "배포", "모니터링", "지연", "처리량", "쿼리", "트랜잭션", "스프링", "자바", "커넥션",
+            "오늘", "질문", "공유", "후기", "정리", "방법", "문제", "해결", "경험", "추천"};
+
+    private final PerfDataRepository perfDataRepository;
+    private final long seed;
+    private final int users;
+    private final int categories;
+    private final int posts;
+    private final double commentsPerPost;
+    private final double bookmarksPerUser;
+    private final int maxReplyDepth;
+    private final LocalDateTime endTime;
+    private final int days;
+    private final int rowsPerStatement;
+    private final int statementsPerBatch;
+
+    public PerfDataGenerator(PerfDataRepository perfDataRepository,
+                             @Value("${perf-data.seed:42}") long seed,
+                             @Value("${perf-data.users:100000}") int users,
+                             @Value("${perf-data.categories:50}") int categories,
+                             @Value("${perf-data.posts:1000000}") int posts,
+                             @Value("${perf-data.comments-per-post:5}") double commentsPerPost,
+                             @Value("${perf-data.bookmarks-per-user:20}") double bookmarksPerUser,
+                             @Value("${perf-data.max-reply-depth:8}") int maxReplyDepth,
+                             @Value("${perf-data.end-time:2025-01-01T00:00:00}") LocalDateTime endTime,
+                             @Value("${perf-data.days:365}") int days,
+                             @Value("${perf-data.rows-per-statement:1000}") int rowsPerStatement,
+                             @Value("${perf-data.statements-per-batch:10}") int statementsPerBatch) {
+        this.perfDataRepository = perfDataRepository;
+        this.seed = seed;
+        this.users = users;
+        this.categories = categories;
+        this.posts = posts;
+        this.commentsPerPost = commentsPerPost;
+        this.bookmarksPerUser = bookmarksPerUser;
+        this.maxReplyDepth = Math.min(maxReplyDepth, CommentPath.MAX_DEPTH);
+        this.endTime = endTime;
+        this.days = days;
+        this.rowsPerStatement = rowsPerStatement;
+        this.statementsPerBatch = statementsPerBatch;
+    }
+
+    public static String userEmail(int index) {
+        return "perf-user-" + index + "@perf.example.com";
+    }
+
+    public void generate() throws SQLException {
+        if (perfDataRepository.count("SELECT COUNT(*) FROM posts") > 0
+                || perfDataRepository.count("SELECT COUNT(*) FROM categories") > 0
+                || perfDataRepository.count("SELECT COUNT(*) FROM comments") > 0) {
+            throw new IllegalStateException("성능 테스트 데이터는 게시글, 카테고리, 댓글이 없는 DB 에만 만들 수 있습니다.");
+        }
+
+        long startedAt = System.nanoTime();
+        log.info("성능 테스트 데이터 생성을 시작합니다. seed={}, 사용자 {}, 카테고리 {}, 게시글 {}",
+                seed, users, categories, posts);
+        LocalDateTime startTime = endTime.minusDays(days);
+        try (Connection connection = perfDataRepository.openConnection()) {
+            long rows = insertUsers(connection, startTime)
+                    + insertCategories(connection, startTime)
+                    + insertPosts(connection, startTime)
+                    + insertComments(connection, startTime)
+                    + insertBookmarks(connection, startTime);
+            double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            log.info("성능 테스트 데이터 {}행을 {}초에 만들었습니다. ({}행/초)",
+                    rows, Math.round(seconds), Math.round(rows / seconds));
+        }
+    }
+
+    private long insertUsers(Connection connection, LocalDateTime startTime) throws SQLException {
+        long startedAt = System.nanoTime();
+        SplittableRandom random = random(1);
+        try (Inserter inserter = inserter(connection, "users",
+                new String[]{"email", "password", "nickname", "role", "created_at", "updated_at"}, null)) {
+            for (int i = 0; i < users; i++) {
+                Timestamp createdAt = Timestamp.valueOf(startTime.minusMinutes(random.nextInt(days * 24 * 60 + 1)));
+                inserter.add(userEmail(i), PASSWORD_HASH, "perf" + i, "USER", createdAt, createdAt);
+            }
+            inserter.flush();
+            return logStage("users", inserter.getWrittenRows(), startedAt);
+        }
+    }
+
+    private long insertCategories(Connection connection, LocalDateTime startTime) throws SQLException {
+        long startedAt = System.nanoTime();
+        Timestamp createdAt = Timestamp.valueOf(startTime);
+        try (Inserter inserter = inserter(connection, "categories",
+                new String[]{"id", "name", "created_at", "updated_at", "version"}, null)) {
+            for (int i = 1; i <= categories; i++) {
+                inserter.add((long) i, "perf-category-" + i, createdAt, createdAt, 0L);
+            }
+            inserter.flush();
+            return logStage("categories", inserter.getWrittenRows(), startedAt);
+        }
+    }
+
+    // 게시글은 id 순서대로 기간 안에 고르게 작성된다. 카테고리는 1~3개를 앞 번호가 더 인기 있게 고른다.
+    private long insertPosts(Connection connection, LocalDateTime startTime) throws SQLException {
+        long startedAt = System.nanoTime();
+        SplittableRandom random = random(2);
+        try (Inserter postInserter = inserter(connection, "posts",
+                new String[]{"id", "title", "content", "author_email", "created_at", "updated_at", "version", "view_count"},
+                null);
+             Inserter categoryInserter = inserter(connection, "post_categories",
+                     new String[]{"post_id", "category_id", "created_at", "updated_at"}, postInserter)) {
+            long[] picked = new long[3];
+            for (int i = 1; i <= posts; i++) {
+                Timestamp createdAt = Timestamp.valueOf(postTime(startTime, i));
+                postInserter.add((long) i, sentence(random, 3, 10), sentence(random, 20, 200),
+                        userEmail(skewed(random, users, 3)), createdAt, createdAt, 0L,
+                        (long) (Math.pow(random.nextDouble(), 4) * 10_000));
+
+                int count = Math.min(categories, 1 + random.nextInt(3));
+                for (int c = 0; c < count; c++) {
+                    long categoryId;
+                    do {
+                        categoryId = skewed(random, categories, 2) + 1;
+                    } while (contains(picked, c, categoryId));
+                    picked[c] = categoryId;
+                    categoryInserter.add((long) i, categoryId, createdAt, createdAt);
+                }
+            }
+            postInserter.flush();
+            return logStage("posts", postInserter.getWrittenRows(), startedAt)
+                    + logStage("post_categories", categoryInserter.getWrittenRows(), startedAt);
+        }
+    }
+
+    // 게시글마다 댓글 수는 평균 commentsPerPost 인 지수 분포로 뽑아 댓글이 없는 글이 많고 일부에 몰린다.
+    // 댓글의 절반가량은 최상위 댓글이고, 나머지는 바로 앞 댓글(이어지는 대화) 또는 임의의 앞 댓글에 답한다.
+    // 그래서 깊이는 얕은 쪽이 대부분이고 maxReplyDepth 까지 긴 꼬리가 생긴다.
+    private long insertComments(Connection connection, LocalDateTime startTime) throws SQLException {
+        long startedAt = System.nanoTime();
+        SplittableRandom random = random(3);
+        long[] depthCounts = new long[maxReplyDepth + 1];
+        try (Inserter inserter = inserter(connection, "comments",
+                new String[]{"id", "content", "author_email", "post_id", "parent_id", "created_at", "updated_at",
+                        "version", "path", "depth"}, null)) {
+            long commentId = 0;
+            List<String> paths = new ArrayList<>();
+            List<Long> ids = new ArrayList<>();
+            for (int postId = 1; postId <= posts; postId++) {
+                int count = (int) Math.min(commentsPerPost * 100, -commentsPerPost * Math.log(1 - random.nextDouble()));
+                LocalDateTime createdAt = postTime(startTime, postId);
+                paths.clear();
+                ids.clear();
+                for (int c = 0; c < count; c++) {
+                    commentId++;
+                    int parent = -1;
+                    if (c > 0 && random.nextDouble() >= 0.5) {
+                        parent = random.nextBoolean() ? c - 1 : random.nextInt(c);
+                        if (CommentPath.depth(paths.get(parent)) >= maxReplyDepth) {
+                            parent = -1;
+                        }
+                    }
+                    String path = CommentPath.child(parent < 0 ? null : paths.get(parent), commentId);
+                    int depth = CommentPath.depth(path);
+                    paths.add(path);
+                    ids.add(commentId);
+                    depthCounts[depth]++;
+
+                    createdAt = createdAt.plusMinutes(1 + random.nextInt(180));
+                    Timestamp timestamp = Timestamp.valueOf(createdAt.isAfter(endTime) ? endTime : createdAt);
+                    inserter.add(commentId, sentence(random, 5, 40), userEmail(skewed(random, users, 2)),
+                            (long) postId, parent < 0 ? null : ids.get(parent), timestamp, timestamp, 0L, path, depth);
+                }
+            }
+            inserter.flush();
+            log.info("댓글 깊이별 개수: {}", Arrays.toString(depthCounts));
+            return logStage("comments", inserter.getWrittenRows(), startedAt);
+        }
+    }
+
+    // 사용자마다 평균 bookmarksPerUser 개를 지수 분포로 뽑고, 최근 게시글일수록 더 많이 북마크된다.
+    private long insertBookmarks(Connection connection, LocalDateTime startTime) throws SQLException {
+        long startedAt = System.nanoTime();
+        SplittableRandom random = random(4);
+        try (Inserter inserter = inserter(connection, "bookmarks",
+                new String[]{"user_email", "post_id", "created_at", "updated_at"}, null)) {
+            Set<Integer> postIds = new HashSet<>();
+            for (int i = 0; i < users; i++) {
+                int count = (int) Math.min(posts, Math.min(bookmarksPerUser * 100,
+                        -bookmarksPerUser * Math.log(1 - random.nextDouble())));
+                postIds.clear();
+                String email = userEmail(i);
+                while (postIds.size() < count) {
+                    int postId = posts - skewed(random, posts, 2);
+                    if (postIds.add(postId)) {
+                        LocalDateTime postTime = postTime(startTime, postId);
+                        long remainingSeconds = Math.max(1, Duration.between(postTime, endTime).toSeconds());
+                        Timestamp createdAt = Timestamp.valueOf(postTime.plusSeconds(random.nextLong(remainingSeconds)));
+                        inserter.add(email, (long) postId, createdAt, createdAt);
+                    }
+                }
+            }
+            inserter.flush();
+            return logStage("bookmarks", inserter.getWrittenRows(), startedAt);
+        }
+    }
+
+    private Inserter inserter(Connection connection, String table, String[] columns, Inserter parent) {
+        return new Inserter(connection, table, columns, rowsPerStatement, statementsPerBatch, parent);
+    }
+
+    // 단계마다 seed 에서 따로 만든 난수열을 써서 한 단계에서 뽑는 난수 개수가 달라져도 다른 단계에는 영향이 없다.
+    private SplittableRandom random(int stage) {
+        return new SplittableRandom(seed * 31 + stage);
+    }
+
+    private LocalDateTime postTime(LocalDateTime startTime, int postId) {
+        return startTime.plusSeconds((long) days * 24 * 60 * 60 * (postId - 1) / Math.max(1, posts));
+    }
+
+    // 0 이상 bound 미만의 정수를 앞쪽에 몰리게 뽑는다. exponent 가 클수록 더 치우친다.
+    private static int skewed(SplittableRandom random, int bound, int exponent) {
+        return Math.min(bound - 1, (int) (Math.pow(random.nextDouble(), exponent) * bound));
+    }
+
+    private static boolean contains(long[] values, int length, long value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String sentence(SplittableRandom random, int minWords, int maxWords) {
+        int words = minWords + random.nextInt(maxWords - minWords + 1);
+        StringBuilder sb = new StringBuilder(words * 4);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static long logStage(String table, long rows, long startedAt) {
+        log.info("{} {}행 ({}ms)", table, rows, (System.nanoTime() - startedAt) / 1_000_000);
+        return rows;
+    }
+}
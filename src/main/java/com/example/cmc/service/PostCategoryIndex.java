@@ -0,0 +1,309 @@
+package com.example.cmc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.PeekableLongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 카테고리 → 게시글 id 역색인을 메모리에 유지한다.
+// 카테고리별 게시글 집합은 압축 비트맵으로, 게시글별 카테고리는 long 배열로 들고 있어
+// 연관 게시글 계산에 DB 조인이 필요 없다.
+@Service
+@Slf4j
+public class PostCategoryIndex {
+
+    private static final Comparator<RelatedPost> WORST_FIRST = Comparator.comparingDouble(RelatedPost::similarity)
+            .thenComparingLong(RelatedPost::postId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxCandidates;
+    private final int rebuildBatchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, Roaring64Bitmap> postsByCategory = new HashMap<>();
+    private Map<Long, long[]> categoriesByPost = new HashMap<>();
+    // 재구성 중 들어온 변경은 새 색인으로 교체한 뒤 다시 적용한다.
+    private List<Runnable> pendingChanges;
+
+    public PostCategoryIndex(JdbcTemplate jdbcTemplate,
+                             @Value("${related.max-candidates:2000}") int maxCandidates,
+                             @Value("${related.rebuild-batch-size:50000}") int rebuildBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxCandidates = maxCandidates;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    public record RelatedPost(long postId, double similarity) {
+    }
+
+    public enum MatchMode {
+        ANY, ALL
+    }
+
+    // post_categories 를 post_id 구간 단위로 끊어 읽어 색인을 새로 만든다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, Roaring64Bitmap> newPostsByCategory = new HashMap<>();
+        Map<Long, long[]> newCategoriesByPost = new HashMap<>();
+        long rows = 0;
+        try {
+            Long maxPostId = jdbcTemplate.queryForObject("SELECT MAX(post_id) FROM post_categories", Long.class);
+            Map<Long, List<Long>> batch = new HashMap<>();
+            for (long from = 0; maxPostId != null && from <= maxPostId; from += rebuildBatchSize) {
+                batch.clear();
+                jdbcTemplate.query(
+                        "SELECT pc.post_id, pc.category_id FROM post_categories pc " +
+                                "JOIN posts p ON p.id = pc.post_id " +
+                                "WHERE pc.post_id >= ? AND pc.post_id < ? AND p.deleted_at IS NULL",
+                        rs -> {
+                            batch.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getLong(2));
+                        },
+                        from, from + rebuildBatchSize);
+                for (Map.Entry<Long, List<Long>> entry : batch.entrySet()) {
+                    long[] categoryIds = toArray(entry.getValue());
+                    newCategoriesByPost.put(entry.getKey(), categoryIds);
+                    for (long categoryId : categoryIds) {
+                        newPostsByCategory.computeIfAbsent(categoryId, id -> new Roaring64Bitmap()).addLong(entry.getKey());
+                    }
+                    rows += categoryIds.length;
+                }
+            }
+            newPostsByCategory.values().forEach(Roaring64Bitmap::runOptimize);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postsByCategory = newPostsByCategory;
+            categoriesByPost = newCategoriesByPost;
+            List<Runnable> changes = pendingChanges;
+            pendingChanges = null;
+            changes.forEach(Runnable::run);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("게시글 카테고리 색인을 재구성했습니다. 게시글 {}건, 매핑 {}건, {}ms",
+                newCategoriesByPost.size(), rows, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 색인 변경은 트랜잭션이 커밋된 뒤에 반영하고, 롤백되면 버린다.
+    public void put(Long postId, List<Long> categoryIds) {
+        long[] updated = toArray(categoryIds);
+        AfterCommit.run(() -> write(postId, updated));
+    }
+
+    public void remove(Long postId) {
+        AfterCommit.run(() -> write(postId, null));
+    }
+
+    // categoryIds 가 null 이면 게시글을 색인에서 뺀다.
+    private void write(Long postId, long[] categoryIds) {
+        Runnable change = categoryIds == null ? () -> applyRemove(postId) : () -> applyPut(postId, categoryIds);
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 같은 카테고리를 가진 게시글을 후보로 모아 카테고리 집합의 Jaccard 유사도로 정렬한다.
+    // 후보는 카테고리마다 최신 게시글부터 maxCandidates 를 나눠 가진 만큼만 보므로 요청당 비용이 제한된다.
+    public List<RelatedPost> findRelated(Long postId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            long[] categoryIds = categoriesByPost.get(postId);
+            if (categoryIds == null || categoryIds.length == 0) {
+                return List.of();
+            }
+
+            List<Roaring64Bitmap> bitmaps = new ArrayList<>(categoryIds.length);
+            for (long categoryId : categoryIds) {
+                Roaring64Bitmap bitmap = postsByCategory.get(categoryId);
+                if (bitmap != null) {
+                    bitmaps.add(bitmap);
+                }
+            }
+
+            int perCategory = Math.max(1, maxCandidates / Math.max(1, bitmaps.size()));
+            Set<Long> candidates = new LinkedHashSet<>();
+            for (Roaring64Bitmap bitmap : bitmaps) {
+                LongIterator iterator = bitmap.getReverseLongIterator();
+                for (int scanned = 0; scanned < perCategory && iterator.hasNext(); scanned++) {
+                    long candidate = iterator.next();
+                    if (candidate != postId) {
+                        candidates.add(candidate);
+                    }
+                }
+            }
+
+            PriorityQueue<RelatedPost> top = new PriorityQueue<>(limit + 1, WORST_FIRST);
+            for (long candidate : candidates) {
+                int overlap = 0;
+                for (Roaring64Bitmap bitmap : bitmaps) {
+                    if (bitmap.contains(candidate)) {
+                        overlap++;
+                    }
+                }
+                int union = categoryIds.length + categoriesByPost.get(candidate).length - overlap;
+                top.offer(new RelatedPost(candidate, (double) overlap / union));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<RelatedPost> related = new ArrayList<>(top);
+            related.sort(WORST_FIRST.reversed());
+            return related;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 카테고리 조합에 해당하는 게시글 id 를 beforeId 미만에서 큰 순서(최신순)로 limit 개까지 반환한다.
+    // ANY 는 각 비트맵의 역방향 반복자를 병합하고, ALL 은 작은 비트맵부터 교집합을 구한 뒤 역방향으로 읽는다.
+    public List<Long> findPostIds(Collection<Long> categoryIds, MatchMode mode, long beforeId, int limit) {
+        if (categoryIds.isEmpty() || limit <= 0 || beforeId <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Roaring64Bitmap> bitmaps = new ArrayList<>(categoryIds.size());
+            for (Long categoryId : new LinkedHashSet<>(categoryIds)) {
+                Roaring64Bitmap bitmap = postsByCategory.get(categoryId);
+                if (bitmap != null) {
+                    bitmaps.add(bitmap);
+                } else if (mode == MatchMode.ALL) {
+                    return List.of();
+                }
+            }
+            if (bitmaps.isEmpty()) {
+                return List.of();
+            }
+
+            return mode == MatchMode.ALL
+                    ? readIntersection(bitmaps, beforeId, limit)
+                    : readUnion(bitmaps, beforeId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> readIntersection(List<Roaring64Bitmap> bitmaps, long beforeId, int limit) {
+        bitmaps.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+        Roaring64Bitmap result = bitmaps.get(0);
+        if (bitmaps.size() > 1) {
+            result = result.clone();
+            for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+                result.and(bitmaps.get(i));
+            }
+        }
+
+        List<Long> postIds = new ArrayList<>(Math.min(limit, 1024));
+        PeekableLongIterator iterator = result.getReverseLongIteratorFrom(beforeId - 1);
+        while (postIds.size() < limit && iterator.hasNext()) {
+            postIds.add(iterator.next());
+        }
+        return postIds;
+    }
+
+    private List<Long> readUnion(List<Roaring64Bitmap> bitmaps, long beforeId, int limit) {
+        List<PeekableLongIterator> iterators = new ArrayList<>(bitmaps.size());
+        for (Roaring64Bitmap bitmap : bitmaps) {
+            PeekableLongIterator iterator = bitmap.getReverseLongIteratorFrom(beforeId - 1);
+            if (iterator.hasNext()) {
+                iterators.add(iterator);
+            }
+        }
+
+        List<Long> postIds = new ArrayList<>(Math.min(limit, 1024));
+        while (postIds.size() < limit && !iterators.isEmpty()) {
+            long next = Long.MIN_VALUE;
+            for (PeekableLongIterator iterator : iterators) {
+                next = Math.max(next, iterator.peekNext());
+            }
+            postIds.add(next);
+            for (int i = iterators.size() - 1; i >= 0; i--) {
+                PeekableLongIterator iterator = iterators.get(i);
+                if (iterator.peekNext() == next) {
+                    iterator.next();
+                    if (!iterator.hasNext()) {
+                        iterators.remove(i);
+                    }
+                }
+            }
+        }
+        return postIds;
+    }
+
+    private void applyPut(Long postId, long[] categoryIds) {
+        applyRemove(postId);
+        if (categoryIds.length == 0) {
+            return;
+        }
+        categoriesByPost.put(postId, categoryIds);
+        for (long categoryId : categoryIds) {
+            postsByCategory.computeIfAbsent(categoryId, id -> new Roaring64Bitmap()).addLong(postId);
+        }
+    }
+
+    private void applyRemove(Long postId) {
+        long[] previous = categoriesByPost.remove(postId);
+        if (previous == null) {
+            return;
+        }
+        for (long categoryId : previous) {
+            Roaring64Bitmap bitmap = postsByCategory.get(categoryId);
+            if (bitmap != null) {
+                bitmap.removeLong(postId);
+                if (bitmap.isEmpty()) {
+                    postsByCategory.remove(categoryId);
+                }
+            }
+        }
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        return ids == null ? new long[0] : ids.stream().mapToLong(Long::longValue).distinct().toArray();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.cmc.service;
+
+import com.example.cmc.repository.PostPurgeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 소프트 삭제된 게시글을 백그라운드에서 실제로 지운다.
+// 자식 행을 batchSize 건씩 나눠 지우므로 댓글이 많은 게시글도 긴 트랜잭션이나 잠금을 만들지 않는다.
+@Service
+@Slf4j
+public class PostPurgeService {
+
+    private final PostPurgeRepository postPurgeRepository;
+    private final TableRowCounter tableRowCounter;
+    private final int batchSize;
+    private final int postsPerRun;
+
+    public PostPurgeService(PostPurgeRepository postPurgeRepository,
+                            TableRowCounter tableRowCounter,
+                            @Value("${posts.purge.batch-size:500}") int batchSize,
+                            @Value("${posts.purge.posts-per-run:100}") int postsPerRun) {
+        this.postPurgeRepository = postPurgeRepository;
+        this.tableRowCounter = tableRowCounter;
+        this.batchSize = batchSize;
+        this.postsPerRun = postsPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${posts.purge.interval-ms:30000}",
+            initialDelayString = "${posts.purge.interval-ms:30000}")
+    public void purgeDeletedPosts() {
+        List<Long> postIds = postPurgeRepository.findDeletedPostIds(postsPerRun);
+        int purged = 0;
+        for (Long postId : postIds) {
+            try {
+                purgePost(postId);
+                purged++;
+            } catch (DataAccessException e) {
+                // 정리 중 새 댓글이 달리는 등으로 실패하면 다음 실행에서 이어서 지운다.
+                log.warn("삭제된 게시글 정리에 실패했습니다. postId={}", postId, e);
+            }
+        }
+        if (purged > 0) {
+            log.info("삭제된 게시글 {}건을 정리했습니다.", purged);
+        }
+    }
+
+    void purgePost(Long postId) {
+        int deleted;
+        do {
+            deleted = postPurgeRepository.deleteComments(postId, batchSize);
+            tableRowCounter.add(TableRowCounter.Table.COMMENTS, -deleted);
+        } while (deleted == batchSize);
+        do {
+            deleted = postPurgeRepository.deleteBookmarks(postId, batchSize);
+            tableRowCounter.add(TableRowCounter.Table.BOOKMARKS, -deleted);
+        } while (deleted == batchSize);
+        postPurgeRepository.deletePostCategories(postId);
+        postPurgeRepository.deletePost(postId);
+    }
+}
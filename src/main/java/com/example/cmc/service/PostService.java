@@ -3,7 +3,10 @@ package com.example.cmc.service;
 import com.example.cmc.dto.request.PostCreateRequest;
 import com.example.cmc.dto.request.PostUpdateRequest;
 import com.example.cmc.dto.response.CategoryInfo;
+import com.example.cmc.dto.response.CursorPageResponse;
 import com.example.cmc.dto.response.PostResponse;
+import com.example.cmc.dto.response.RelatedPostResponse;
+import com.example.cmc.dto.response.TrendingPostResponse;
 import com.example.cmc.entity.Category;
 import com.example.cmc.entity.Post;
 import com.example.cmc.entity.PostCategory;
@@ -11,13 +14,22 @@ import com.example.cmc.entity.User;
 import com.example.cmc.repository.CategoryRepository;
 import com.example.cmc.repository.PostCategoryRepository;
 import com.example.cmc.repository.PostRepository;
+import com.example.cmc.repository.ResourceVersion;
 import com.example.cmc.repository.UserRespository;
+import com.example.cmc.exception.BadRequestException;
+import com.example.cmc.exception.ConflictException;
 import com.example.cmc.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,10 +37,17 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final int MAX_RELATED_POSTS = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
     private final PostCategoryRepository postCategoryRepository;
     private final UserRespository userRespository;
+    private final TrendingService trendingService;
+    private final PostCategoryIndex postCategoryIndex;
+    private final ViewCountService viewCountService;
+    private final TableRowCounter tableRowCounter;
 
     @Transactional
     public PostResponse createPost(PostCreateRequest request) {
@@ -39,6 +58,7 @@ public class PostService {
                 .build();
         
         Post savedPost = postRepository.save(post);
+        tableRowCounter.add(TableRowCounter.Table.POSTS, 1);
 
         if (request.getCategoryIds() != null && !request.getCategoryIds().isEmpty()) {
             List<PostCategory> postCategories = request.getCategoryIds().stream()
@@ -49,6 +69,7 @@ public class PostService {
                     .collect(Collectors.toList());
             postCategoryRepository.saveAll(postCategories);
         }
+        postCategoryIndex.put(savedPost.getId(), request.getCategoryIds());
 
         return toResponse(savedPost);
     }
@@ -59,6 +80,24 @@ public class PostService {
         return toResponse(post);
     }
 
+    // 조회는 메모리에서 세고 DB 에는 ViewCountService 가 주기적으로 더한다.
+    public void recordView(Long id) {
+        viewCountService.recordView(id);
+    }
+
+    // 응답에 카테고리 이름이 들어가므로 카테고리 테이블의 마지막 수정 시각도 반영한다.
+    public ResourceVersion getPostVersion(Long id) {
+        ResourceVersion version = postRepository.findVersionById(id)
+                .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다."));
+        return version.withLastModified(categoryRepository.findVersion().lastModified());
+    }
+
+    public void checkPostExists(Long id) {
+        if (!postRepository.existsById(id)) {
+            throw new NotFoundException("게시글을 찾을 수 없습니다.");
+        }
+    }
+
     public List<PostResponse> getAllPosts() {
         List<Post> posts = postRepository.findAll();
         return posts.stream()
@@ -66,6 +105,60 @@ public class PostService {
                 .collect(Collectors.toList());
     }
 
+    // 카테고리 조건은 메모리 비트맵 색인으로 평가하고, 게시글 id 내림차순 커서로 페이지를 나눈다.
+    public CursorPageResponse<PostResponse> getPostFeed(List<Long> categoryIds, String mode, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long beforeId = parseCursor(cursor);
+
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            List<Post> posts = postRepository.findByIdLessThanOrderByIdDesc(beforeId, Limit.of(pageSize + 1));
+            boolean hasNext = posts.size() > pageSize;
+            List<Post> page = hasNext ? posts.subList(0, pageSize) : posts;
+            return toFeedPage(page, hasNext ? page.get(page.size() - 1).getId() : null);
+        }
+
+        // 색인에는 있지만 조회되지 않는 게시글이 있을 수 있으므로 다음 페이지 여부와 커서는 색인 결과로 정한다.
+        List<Long> postIds = postCategoryIndex.findPostIds(categoryIds, parseMode(mode), beforeId, pageSize + 1);
+        boolean hasNext = postIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? postIds.subList(0, pageSize) : postIds;
+        return toFeedPage(findPostsInOrder(pageIds), hasNext ? pageIds.get(pageIds.size() - 1) : null);
+    }
+
+    public List<TrendingPostResponse> getTrendingPosts(Long categoryId, int limit) {
+        return trendingService.getTrending(categoryId, limit);
+    }
+
+    public List<RelatedPostResponse> getRelatedPosts(Long id, int limit) {
+        if (!postRepository.existsById(id)) {
+            throw new NotFoundException("게시글을 찾을 수 없습니다.");
+        }
+
+        List<PostCategoryIndex.RelatedPost> related = postCategoryIndex.findRelated(id, Math.min(limit, MAX_RELATED_POSTS));
+        if (related.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> posts = postRepository.findAllById(related.stream().map(PostCategoryIndex.RelatedPost::postId).toList())
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        // 색인과 DB 사이에 삭제된 게시글은 건너뛴다.
+        return related.stream()
+                .map(relatedPost -> {
+                    Post post = posts.get(relatedPost.postId());
+                    if (post == null) {
+                        return null;
+                    }
+                    return RelatedPostResponse.builder()
+                            .id(post.getId())
+                            .title(post.getTitle())
+                            .authorEmail(post.getAuthorEmail())
+                            .similarity(relatedPost.similarity())
+                            .build();
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     public List<PostResponse> getPostsByAuthorEmail(String authorEmail) {
         List<Post> posts = postRepository.findByAuthorEmail(authorEmail);
         return posts.stream()
@@ -75,12 +168,20 @@ public class PostService {
 
     @Transactional
     public PostResponse updatePost(Long id, PostUpdateRequest request) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다."));
+        return updatePost(id, request, null);
+    }
 
-        post.setTitle(request.getTitle());
-        post.setContent(request.getContent());
-        Post updatedPost = postRepository.save(post);
+    // 조회 없이 조건부 UPDATE 한 문장으로 수정한다. expectedVersion 이 주어지면 버전이 다를 때 409 로 거절한다.
+    // 카테고리만 바꾼 수정도 updatedAt 과 version 을 올린다.
+    @Transactional
+    public PostResponse updatePost(Long id, PostUpdateRequest request, Long expectedVersion) {
+        int updated = postRepository.updateIfVersionMatches(
+                id, expectedVersion, request.getTitle(), request.getContent(), LocalDateTime.now());
+        if (updated == 0) {
+            Long currentVersion = postRepository.findCurrentVersionById(id)
+                    .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다."));
+            throw new ConflictException("다른 사용자가 먼저 게시글을 수정했습니다.", currentVersion);
+        }
 
         postCategoryRepository.deleteByPostId(id);
         
@@ -93,16 +194,66 @@ public class PostService {
                     .collect(Collectors.toList());
             postCategoryRepository.saveAll(postCategories);
         }
+        trendingService.updateCategories(id, request.getCategoryIds());
+        postCategoryIndex.put(id, request.getCategoryIds());
 
+        // 응답 본문을 만들기 위한 조회
+        Post updatedPost = postRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다."));
         return toResponse(updatedPost);
     }
 
+    // 삭제 표시만 하고 바로 반환한다. 댓글/북마크 등 자식 행은 PostPurgeService 가 나중에 나눠 지운다.
     @Transactional
     public void deletePost(Long id) {
-        if (!postRepository.existsById(id)) {
+        if (postRepository.softDeleteById(id, LocalDateTime.now()) == 0) {
             throw new NotFoundException("게시글을 찾을 수 없습니다.");
         }
-        postRepository.deleteById(id);
+        tableRowCounter.add(TableRowCounter.Table.POSTS, -1);
+        trendingService.removePost(id);
+        postCategoryIndex.remove(id);
+    }
+
+    private CursorPageResponse<PostResponse> toFeedPage(List<Post> page, Long lastId) {
+        return CursorPageResponse.<PostResponse>builder()
+                .items(page.stream().map(this::toResponse).collect(Collectors.toList()))
+                .nextCursor(lastId != null ? String.valueOf(lastId) : null)
+                .hasNext(lastId != null)
+                .build();
+    }
+
+    private List<Post> findPostsInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> posts = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return postIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    private static PostCategoryIndex.MatchMode parseMode(String mode) {
+        if (mode == null || mode.isBlank()) {
+            return PostCategoryIndex.MatchMode.ANY;
+        }
+        try {
+            return PostCategoryIndex.MatchMode.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("검색 모드는 any 또는 all 이어야 합니다.");
+        }
     }
 
     private PostResponse toResponse(Post post) {
@@ -139,6 +290,8 @@ public class PostService {
                 .categories(categories)
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
+                .version(post.getVersion())
+                .viewCount(post.getViewCount() + viewCountService.getPendingCount(post.getId()))
                 .build();
     }
 }
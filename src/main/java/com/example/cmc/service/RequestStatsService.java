@@ -0,0 +1,72 @@
+package com.example.cmc.service;
+
+import com.example.cmc.CmcApplication;
+import com.example.cmc.dto.response.EndpointStatsResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 컨트롤러 메서드별 최근 1분 처리량과 처리 시간을 모은다. RequestStatsFilter 가 요청마다 record 를 호출한다.
+// 엔드포인트마다 고정 크기 고리 버퍼(EndpointStats)를 처음 한 번만 만들고, 이후 기록은 배열 칸 갱신뿐이다.
+@Service
+public class RequestStatsService {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final String APPLICATION_PACKAGE = CmcApplication.class.getPackageName();
+
+    // 액추에이터, springdoc 처럼 이 애플리케이션 밖의 핸들러는 같은 자리표시 값으로 묶어 기록하지 않는다.
+    private static final EndpointStats IGNORED = new EndpointStats("ignored");
+
+    private final Map<Method, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    public void record(HandlerMethod handler, long startNanos, long endNanos, boolean error) {
+        EndpointStats stats = endpoints.get(handler.getMethod());
+        if (stats == null) {
+            stats = endpoints.computeIfAbsent(handler.getMethod(), method -> create(handler));
+        }
+        if (stats != IGNORED) {
+            stats.record(Math.floorDiv(endNanos, NANOS_PER_SECOND), endNanos - startNanos, error);
+        }
+    }
+
+    // 최근 1분 동안 요청이 있었던 엔드포인트를 처리량 순으로 돌려준다.
+    public List<EndpointStatsResponse> getEndpointStats() {
+        return getEndpointStats(System.nanoTime());
+    }
+
+    List<EndpointStatsResponse> getEndpointStats(long nowNanos) {
+        long currentSecond = Math.floorDiv(nowNanos, NANOS_PER_SECOND);
+        return endpoints.values().stream()
+                .filter(stats -> stats != IGNORED)
+                .map(stats -> stats.snapshot(currentSecond))
+                .filter(snapshot -> snapshot.count() > 0)
+                .map(RequestStatsService::toResponse)
+                .sorted(Comparator.comparingDouble(EndpointStatsResponse::getRequestsPerSecond).reversed()
+                        .thenComparing(EndpointStatsResponse::getEndpoint))
+                .toList();
+    }
+
+    private static EndpointStats create(HandlerMethod handler) {
+        Class<?> beanType = handler.getBeanType();
+        if (!beanType.getPackageName().startsWith(APPLICATION_PACKAGE)) {
+            return IGNORED;
+        }
+        return new EndpointStats(beanType.getSimpleName() + "." + handler.getMethod().getName());
+    }
+
+    private static EndpointStatsResponse toResponse(EndpointStats.Snapshot snapshot) {
+        return EndpointStatsResponse.builder()
+                .endpoint(snapshot.name())
+                .requestCount(snapshot.count())
+                .errorCount(snapshot.errors())
+                .requestsPerSecond((double) snapshot.count() / EndpointStats.WINDOW_SECONDS)
+                .averageMs(snapshot.totalNanos() / 1_000_000.0 / snapshot.count())
+                .maxMs(snapshot.maxNanos() / 1_000_000.0)
+                .build();
+    }
+}
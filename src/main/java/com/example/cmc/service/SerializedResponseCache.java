@@ -0,0 +1,155 @@
+package com.example.cmc.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// 자주 읽히는 GET 응답을 직렬화된 JSON 바이트와 gzip 본문으로 보관한다.
+// 엔트리는 조회 시점의 ETag(엔티티 버전)와 함께 저장되어 버전이 바뀌면 다시 만들어지므로 별도 무효화가 필요 없다.
+@Service
+public class SerializedResponseCache {
+
+    private final JsonMapper jsonMapper;
+    private final long maxBytes;
+    private final int gzipMinSize;
+    private final Counter hits;
+    private final Counter misses;
+
+    // 접근 순서 LinkedHashMap 으로 LRU 를 유지하고 전체 바이트 수로 상한을 둔다.
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    public SerializedResponseCache(JsonMapper jsonMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${response-cache.max-bytes:16777216}") long maxBytes,
+                                   @Value("${response-cache.gzip-min-size:512}") int gzipMinSize) {
+        this.jsonMapper = jsonMapper;
+        this.maxBytes = maxBytes;
+        this.gzipMinSize = gzipMinSize;
+        this.hits = Counter.builder("response_cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("response_cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("response_cache.bytes", this, SerializedResponseCache::getTotalBytes)
+                .register(meterRegistry);
+    }
+
+    public record Entry(String eTag, byte[] json, byte[] gzip) {
+        long size() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+
+    public Entry get(String key, String eTag, Supplier<?> body) {
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.eTag().equals(eTag)) {
+                hits.increment();
+                return entry;
+            }
+        }
+
+        misses.increment();
+        Entry entry = encode(eTag, body.get());
+        put(key, entry);
+        return entry;
+    }
+
+    public synchronized void evict(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.size();
+        }
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getHitCount() {
+        return (long) hits.count();
+    }
+
+    public long getMissCount() {
+        return (long) misses.count();
+    }
+
+    // 캐시된 바이트를 그대로 본문으로 쓴다. 클라이언트가 gzip 을 받으면 미리 압축한 본문을 보낸다.
+    public ResponseEntity<byte[]> toResponse(Entry entry, String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (entry.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzip());
+        }
+        return builder.body(entry.json());
+    }
+
+    private Entry encode(String eTag, Object body) {
+        byte[] json = jsonMapper.writeValueAsBytes(body);
+        byte[] gzip = json.length >= gzipMinSize ? gzip(json) : null;
+        return new Entry(eTag, json, gzip);
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        if (entry.size() > maxBytes) {
+            return;
+        }
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            totalBytes -= previous.size();
+        }
+        totalBytes += entry.size();
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().size();
+            eldest.remove();
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean rejected = parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0{0,3})?");
+            return !rejected;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.cmc.service;
+
+import com.example.cmc.repository.TableRowCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 대시보드에 보여 줄 테이블별 행 수. 볼 때마다 COUNT(*) 를 하지 않도록 쓰기 경로가 커밋한 변경만큼 더하고 뺀다.
+// 쓰기 경로를 거치지 않은 변경(DataInitializer, 직접 실행한 SQL)이나 보정과 겹친 쓰기로 생긴 오차는 주기적인 COUNT(*) 로 맞춘다.
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TableRowCounter {
+
+    public enum Table {
+        USERS, POSTS, COMMENTS, BOOKMARKS, CATEGORIES
+    }
+
+    private final TableRowCountRepository tableRowCountRepository;
+
+    private final AtomicLongArray counts = new AtomicLongArray(Table.values().length);
+
+    // 트랜잭션 안에서 호출하면 커밋된 뒤에 반영하고, 롤백되면 버린다.
+    public void add(Table table, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        AfterCommit.run(() -> counts.addAndGet(table.ordinal(), delta));
+    }
+
+    // 시작을 COUNT(*) 로 붙잡지 않도록 첫 보정도 스케줄러 스레드에서 잠시 뒤에 한다.
+    @Scheduled(fixedDelayString = "${admin.row-counts.reconcile-interval-ms:600000}",
+            initialDelayString = "${admin.row-counts.initial-delay-ms:5000}")
+    public void reconcile() {
+        TableRowCountRepository.RowCounts rowCounts = tableRowCountRepository.countAll();
+        set(Table.USERS, rowCounts.users());
+        set(Table.POSTS, rowCounts.posts());
+        set(Table.COMMENTS, rowCounts.comments());
+        set(Table.BOOKMARKS, rowCounts.bookmarks());
+        set(Table.CATEGORIES, rowCounts.categories());
+        log.debug("테이블 행 수를 보정했습니다. {}", rowCounts);
+    }
+
+    public Map<String, Long> getCounts() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Table table : Table.values()) {
+            result.put(table.name().toLowerCase(Locale.ROOT), counts.get(table.ordinal()));
+        }
+        return result;
+    }
+
+    private void set(Table table, long count) {
+        long previous = counts.getAndSet(table.ordinal(), count);
+        if (previous != count) {
+            log.debug("{} 행 수 보정: {} -> {}", table, previous, count);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.example.cmc.service;
+
+import com.example.cmc.dto.response.TrendingPostResponse;
+import com.example.cmc.entity.PostCategory;
+import com.example.cmc.repository.PostCategoryRepository;
+import com.example.cmc.repository.TrendingScoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 댓글/북마크 이벤트를 시간 감쇠 점수로 누적하여 카테고리별 top-K 랭킹을 메모리에서 유지한다.
+// 점수는 기준 시각(epoch) 시점의 값으로 정규화해 저장하므로 모든 게시글이 같은 비율로 감쇠하고,
+// 이벤트가 없는 게시글의 상대 순서는 바뀌지 않는다. 따라서 이벤트가 발생한 게시글만 갱신하면 된다.
+@Service
+@Slf4j
+public class TrendingService {
+
+    static final double COMMENT_WEIGHT = 1.0;
+    static final double BOOKMARK_WEIGHT = 2.0;
+
+    // 정규화 지수가 이 값을 넘으면 기준 시각을 옮겨 double 오버플로를 막는다.
+    private static final double MAX_EXPONENT = 300;
+    // 이 점수 아래로 감쇠한 게시글은 스냅샷 때 정리한다.
+    private static final double MIN_SCORE = 0.01;
+    private static final int RESTORE_BATCH_SIZE = 500;
+    private static final Comparator<Entry> RANKING = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::postId);
+
+    private final PostCategoryRepository postCategoryRepository;
+    private final TrendingScoreRepository trendingScoreRepository;
+    private final Clock clock;
+    private final double decayPerMilli;
+    private final int capacity;
+
+    private volatile long epochMillis;
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final Set<Long> dirty = new HashSet<>();
+    private final Set<Long> removed = new HashSet<>();
+    private final Map<Long, long[]> postCategories = new ConcurrentHashMap<>();
+    private final Map<Long, TopK> categoryRankings = new ConcurrentHashMap<>();
+    private final TopK globalRanking;
+
+    @Autowired
+    public TrendingService(PostCategoryRepository postCategoryRepository,
+                           TrendingScoreRepository trendingScoreRepository,
+                           @Value("${trending.half-life-hours:6}") double halfLifeHours,
+                           @Value("${trending.top-k:100}") int capacity) {
+        this(postCategoryRepository, trendingScoreRepository, Clock.systemDefaultZone(), halfLifeHours, capacity);
+    }
+
+    TrendingService(PostCategoryRepository postCategoryRepository,
+                    TrendingScoreRepository trendingScoreRepository,
+                    Clock clock,
+                    double halfLifeHours,
+                    int capacity) {
+        this.postCategoryRepository = postCategoryRepository;
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.clock = clock;
+        this.decayPerMilli = Math.log(2) / (halfLifeHours * 3_600_000L);
+        this.capacity = capacity;
+        this.epochMillis = clock.millis();
+        this.globalRanking = new TopK();
+    }
+
+    // 점수와 카테고리 변경은 트랜잭션이 커밋된 뒤에 반영하고, 롤백되면 버린다.
+    public void recordComment(Long postId) {
+        record(postId, COMMENT_WEIGHT);
+    }
+
+    public void recordBookmark(Long postId) {
+        record(postId, BOOKMARK_WEIGHT);
+    }
+
+    // DB 조회 없이 메모리 스냅샷만 읽는다.
+    public List<TrendingPostResponse> getTrending(Long categoryId, int limit) {
+        TopK ranking = categoryId == null ? globalRanking : categoryRankings.get(categoryId);
+        if (ranking == null) {
+            return List.of();
+        }
+
+        Snapshot snapshot = ranking.snapshot;
+        double decay = Math.exp(-decayPerMilli * (clock.millis() - snapshot.epochMillis()));
+        return snapshot.entries().stream()
+                .limit(Math.max(limit, 0))
+                .map(entry -> TrendingPostResponse.builder()
+                        .postId(entry.postId())
+                        .score(entry.score() * decay)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    public void updateCategories(Long postId, List<Long> categoryIds) {
+        long[] updated = toArray(categoryIds);
+        AfterCommit.run(() -> applyCategories(postId, updated));
+    }
+
+    public void removePost(Long postId) {
+        AfterCommit.run(() -> remove(postId));
+    }
+
+    private void applyCategories(Long postId, long[] updated) {
+        synchronized (this) {
+            long[] previous = postCategories.get(postId);
+            if (previous == null) {
+                return;
+            }
+            postCategories.put(postId, updated);
+            for (long categoryId : previous) {
+                TopK ranking = categoryRankings.get(categoryId);
+                if (ranking != null) {
+                    ranking.remove(postId);
+                }
+            }
+            Double score = scores.get(postId);
+            if (score != null) {
+                for (long categoryId : updated) {
+                    categoryRanking(categoryId).offer(postId, score);
+                }
+            }
+        }
+    }
+
+    private synchronized void remove(Long postId) {
+        long[] categoryIds = postCategories.remove(postId);
+        if (scores.remove(postId) == null) {
+            return;
+        }
+        globalRanking.remove(postId);
+        if (categoryIds != null) {
+            for (long categoryId : categoryIds) {
+                TopK ranking = categoryRankings.get(categoryId);
+                if (ranking != null) {
+                    ranking.remove(postId);
+                }
+            }
+        }
+        dirty.remove(postId);
+        removed.add(postId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<TrendingScoreRepository.ScoreRow> rows = trendingScoreRepository.findAll();
+        for (int from = 0; from < rows.size(); from += RESTORE_BATCH_SIZE) {
+            List<TrendingScoreRepository.ScoreRow> batch = rows.subList(from, Math.min(from + RESTORE_BATCH_SIZE, rows.size()));
+            Map<Long, List<Long>> categoriesByPost = postCategoryRepository.findByPostIdIn(
+                            batch.stream().map(TrendingScoreRepository.ScoreRow::postId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(PostCategory::getPostId,
+                            Collectors.mapping(PostCategory::getCategoryId, Collectors.toList())));
+
+            synchronized (this) {
+                for (TrendingScoreRepository.ScoreRow row : batch) {
+                    postCategories.put(row.postId(), toArray(categoriesByPost.getOrDefault(row.postId(), List.of())));
+                    double normalized = row.score() * Math.exp(decayPerMilli * (toMillis(row.scoredAt()) - epochMillis));
+                    apply(row.postId(), normalized);
+                }
+            }
+        }
+        log.info("트렌딩 점수 {}건을 복원했습니다.", rows.size());
+    }
+
+    // 변경된 점수만 스냅샷 테이블에 기록하고, 충분히 감쇠한 게시글은 메모리와 테이블에서 정리한다.
+    @Scheduled(fixedDelayString = "${trending.snapshot-interval-ms:60000}",
+            initialDelayString = "${trending.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        Map<Long, Double> changed = new HashMap<>();
+        Set<Long> deleted;
+        long now = clock.millis();
+        synchronized (this) {
+            double decay = Math.exp(-decayPerMilli * (now - epochMillis));
+            List<Long> expired = scores.entrySet().stream()
+                    .filter(entry -> entry.getValue() * decay < MIN_SCORE)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            expired.forEach(this::remove);
+            for (Long postId : dirty) {
+                changed.put(postId, scores.get(postId) * decay);
+            }
+            dirty.clear();
+            deleted = new HashSet<>(removed);
+            removed.clear();
+        }
+
+        LocalDateTime scoredAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), clock.getZone());
+        if (!changed.isEmpty()) {
+            trendingScoreRepository.upsertAll(changed, scoredAt);
+        }
+        if (!deleted.isEmpty()) {
+            trendingScoreRepository.deleteAll(deleted);
+        }
+    }
+
+    // 카테고리 조회는 트랜잭션 안에서 끝내고 점수 반영만 커밋 뒤로 미룬다.
+    private void record(Long postId, double weight) {
+        long[] cached = postCategories.get(postId);
+        long[] categoryIds = cached != null ? cached : toArray(postCategoryRepository.findByPostId(postId).stream()
+                .map(PostCategory::getCategoryId)
+                .toList());
+        AfterCommit.run(() -> applyRecord(postId, weight, categoryIds));
+    }
+
+    private void applyRecord(Long postId, double weight, long[] categoryIds) {
+        synchronized (this) {
+            postCategories.putIfAbsent(postId, categoryIds);
+            long now = clock.millis();
+            if (decayPerMilli * (now - epochMillis) > MAX_EXPONENT) {
+                rebase(now);
+            }
+            double increment = weight * Math.exp(decayPerMilli * (now - epochMillis));
+            apply(postId, scores.getOrDefault(postId, 0.0) + increment);
+        }
+    }
+
+    private void apply(Long postId, double normalized) {
+        scores.put(postId, normalized);
+        dirty.add(postId);
+        removed.remove(postId);
+        globalRanking.offer(postId, normalized);
+        for (long categoryId : postCategories.getOrDefault(postId, new long[0])) {
+            categoryRanking(categoryId).offer(postId, normalized);
+        }
+    }
+
+    private void rebase(long now) {
+        double factor = Math.exp(-decayPerMilli * (now - epochMillis));
+        epochMillis = now;
+        scores.replaceAll((postId, score) -> score * factor);
+        globalRanking.rescale(factor);
+        categoryRankings.values().forEach(ranking -> ranking.rescale(factor));
+    }
+
+    private TopK categoryRanking(long categoryId) {
+        return categoryRankings.computeIfAbsent(categoryId, id -> new TopK());
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        return ids == null ? new long[0] : ids.stream().mapToLong(Long::longValue).distinct().toArray();
+    }
+
+    private record Entry(Long postId, double score) {
+    }
+
+    private record Snapshot(long epochMillis, List<Entry> entries) {
+    }
+
+    // 점수 상위 capacity 개만 유지한다. 쓰기는 TrendingService 의 락 안에서만 일어나고,
+    // 조회는 매 갱신마다 발행하는 불변 스냅샷을 읽는다.
+    // 멤버가 제거되어 생긴 빈자리는 다음 이벤트가 들어올 때 채워진다.
+    private final class TopK {
+        private final TreeSet<Entry> ranked = new TreeSet<>(RANKING);
+        private final Map<Long, Entry> members = new HashMap<>();
+        private volatile Snapshot snapshot = new Snapshot(epochMillis, List.of());
+
+        void offer(Long postId, double score) {
+            Entry existing = members.remove(postId);
+            if (existing != null) {
+                ranked.remove(existing);
+            } else if (members.size() >= capacity) {
+                Entry lowest = ranked.last();
+                if (lowest.score() >= score) {
+                    return;
+                }
+                ranked.pollLast();
+                members.remove(lowest.postId());
+            }
+            Entry entry = new Entry(postId, score);
+            ranked.add(entry);
+            members.put(postId, entry);
+            publish();
+        }
+
+        void remove(Long postId) {
+            Entry existing = members.remove(postId);
+            if (existing != null) {
+                ranked.remove(existing);
+                publish();
+            }
+        }
+
+        void rescale(double factor) {
+            List<Entry> rescaled = new ArrayList<>(ranked.size());
+            ranked.forEach(entry -> rescaled.add(new Entry(entry.postId(), entry.score() * factor)));
+            ranked.clear();
+            members.clear();
+            rescaled.forEach(entry -> {
+                ranked.add(entry);
+                members.put(entry.postId(), entry);
+            });
+            publish();
+        }
+
+        private void publish() {
+            snapshot = new Snapshot(epochMillis, List.copyOf(ranked));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.cmc.service;
+
+import com.example.cmc.repository.ViewCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 조회수를 게시글별 LongAdder 에 모았다가 주기적으로 한 번에 DB 에 더한다.
+// LongAdder 는 스레드마다 다른 셀에 더하므로 한 게시글에 조회가 몰려도 CAS 경합이나 행 잠금이 생기지 않는다.
+@Service
+@Slf4j
+public class ViewCountService {
+
+    private final ViewCountRepository viewCountRepository;
+    private final int batchSize;
+
+    private final Map<Long, Counter> pending = new ConcurrentHashMap<>();
+    // DB 에 쓰는 중인 증가분. 반영이 끝나기 전 조회에서 숫자가 잠시 줄어 보이지 않도록 함께 더한다.
+    private volatile Map<Long, Long> inFlight = Map.of();
+
+    public ViewCountService(ViewCountRepository viewCountRepository,
+                            @Value("${posts.views.flush-batch-size:500}") int batchSize) {
+        this.viewCountRepository = viewCountRepository;
+        this.batchSize = batchSize;
+    }
+
+    public void recordView(Long postId) {
+        while (true) {
+            Counter counter = pending.get(postId);
+            if (counter == null) {
+                counter = pending.computeIfAbsent(postId, id -> new Counter());
+            }
+            counter.views.increment();
+            if (!counter.retired) {
+                return;
+            }
+            // flush 가 비어 있다고 보고 맵에서 뺀 카운터에 더했으면 무르고 새 카운터에 다시 더한다.
+            counter.views.decrement();
+        }
+    }
+
+    // 아직 DB 에 더하지 않은 조회수
+    public long getPendingCount(Long postId) {
+        Counter counter = pending.get(postId);
+        long count = counter == null ? 0 : counter.views.sum();
+        return count + inFlight.getOrDefault(postId, 0L);
+    }
+
+    // 셀마다 getAndSet 으로 비우므로 읽는 동안 들어온 조회는 다음 주기로 넘어간다.
+    // 직전 주기 동안 조회가 없던 게시글의 카운터는 지워 맵이 게시글 수만큼 계속 커지지 않게 한다.
+    // 음수 증가분은 recordView 가 무르는 도중에 비운 경우라 그대로 더해 맞춘다.
+    @Scheduled(fixedDelayString = "${posts.views.flush-interval-ms:5000}",
+            initialDelayString = "${posts.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Map.Entry<Long, Counter> entry : pending.entrySet()) {
+            long delta = entry.getValue().views.sumThenReset();
+            if (delta != 0) {
+                deltas.put(entry.getKey(), delta);
+            } else {
+                pending.computeIfPresent(entry.getKey(), (postId, counter) -> counter.retireIfIdle() ? null : counter);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        inFlight = deltas;
+        List<Long> postIds = new ArrayList<>(deltas.keySet());
+        try {
+            for (int from = 0; from < postIds.size(); from += batchSize) {
+                Map<Long, Long> batch = new TreeMap<>();
+                for (Long postId : postIds.subList(from, Math.min(from + batchSize, postIds.size()))) {
+                    batch.put(postId, deltas.get(postId));
+                }
+                try {
+                    viewCountRepository.addViewCounts(batch);
+                } catch (DataAccessException e) {
+                    // 반영하지 못한 증가분은 되돌려 다음 주기에 다시 시도한다.
+                    log.warn("조회수 반영에 실패했습니다. 게시글 {}건은 다음 주기에 다시 반영합니다.", postIds.size() - from, e);
+                    postIds.subList(from, postIds.size()).forEach(postId -> restore(postId, deltas.get(postId)));
+                    return;
+                }
+            }
+        } finally {
+            inFlight = Map.of();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    int getPendingPostCount() {
+        return pending.size();
+    }
+
+    private void restore(Long postId, long delta) {
+        pending.computeIfAbsent(postId, id -> new Counter()).views.add(delta);
+    }
+
+    private static final class Counter {
+
+        private final LongAdder views = new LongAdder();
+        private volatile boolean retired;
+
+        // retired 를 먼저 세우고 합을 다시 읽는다. 그 사이 더한 조회는 여기서 합으로 보이거나
+        // recordView 가 retired 를 보고 다시 더하므로 어느 쪽으로도 빠지지 않는다.
+        boolean retireIfIdle() {
+            retired = true;
+            if (views.sum() == 0) {
+                return true;
+            }
+            retired = false;
+            return false;
+        }
+    }
+}
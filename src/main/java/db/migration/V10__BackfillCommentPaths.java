@@ -0,0 +1,50 @@
+package db.migration;
+
+import com.example.cmc.service.CommentPath;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+// V9 에서 추가한 comments.path / depth 를 기존 행에 채운다.
+// 답글은 부모보다 id 가 크므로 id 순으로 한 번 읽으면 부모 경로가 항상 먼저 계산되어 있다.
+// spring.flyway.locations(classpath:db/migration) 스캔으로 SQL 마이그레이션과 함께 실행된다.
+public class V10__BackfillCommentPaths extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Map<Long, String> paths = new HashMap<>();
+        try (Statement select = context.getConnection().createStatement();
+             PreparedStatement update = context.getConnection().prepareStatement(
+                     "UPDATE comments SET path = ?, depth = ? WHERE id = ?")) {
+            select.setFetchSize(BATCH_SIZE);
+            try (ResultSet rs = select.executeQuery("SELECT id, parent_id FROM comments ORDER BY id")) {
+                int pending = 0;
+                while (rs.next()) {
+                    long id = rs.getLong(1);
+                    long parentId = rs.getLong(2);
+                    String path = CommentPath.child(rs.wasNull() ? null : paths.get(parentId), id);
+                    paths.put(id, path);
+
+                    update.setString(1, path);
+                    update.setInt(2, CommentPath.depth(path));
+                    update.setLong(3, id);
+                    update.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    update.executeBatch();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,2 @@
+-- 게시글 조회수. 조회 요청마다 갱신하지 않고 ViewCountService 가 메모리에 모은 증가분을 주기적으로 더한다.
+ALTER TABLE posts ADD COLUMN view_count BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,64 @@
+-- 기존에 엔티티 기준으로 만들어진 스키마. 이미 테이블이 있는 DB는 baseline(1)으로 표시되어 건너뛴다.
+
+CREATE TABLE users (
+    email      VARCHAR(100) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    nickname   VARCHAR(50)  NOT NULL,
+    role       VARCHAR(20)  NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (email)
+);
+
+CREATE TABLE categories (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(100) NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE posts (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    title        VARCHAR(200) NOT NULL,
+    content      TEXT         NOT NULL,
+    author_email VARCHAR(100) NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_posts_author FOREIGN KEY (author_email) REFERENCES users (email)
+);
+
+CREATE TABLE comments (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    content      TEXT         NOT NULL,
+    author_email VARCHAR(100) NOT NULL,
+    post_id      BIGINT       NOT NULL,
+    parent_id    BIGINT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_author FOREIGN KEY (author_email) REFERENCES users (email),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_comments_parent FOREIGN KEY (parent_id) REFERENCES comments (id)
+);
+
+CREATE TABLE bookmarks (
+    user_email VARCHAR(100) NOT NULL,
+    post_id    BIGINT       NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (user_email, post_id),
+    CONSTRAINT fk_bookmarks_user FOREIGN KEY (user_email) REFERENCES users (email),
+    CONSTRAINT fk_bookmarks_post FOREIGN KEY (post_id) REFERENCES posts (id)
+);
+
+CREATE TABLE post_categories (
+    post_id     BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (post_id, category_id),
+    CONSTRAINT fk_post_categories_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_post_categories_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
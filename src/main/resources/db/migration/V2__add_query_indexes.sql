@@ -0,0 +1,20 @@
+-- 리포지토리 조회 쿼리별 인덱스. 각 인덱스가 담당하는 쿼리를 함께 적는다.
+
+-- PostRepository.findByAuthorEmail
+CREATE INDEX idx_posts_author_created ON posts (author_email, created_at);
+
+-- CommentRepository.findByPostId (id 순으로 정렬된 범위 스캔)
+CREATE INDEX idx_comments_post_id ON comments (post_id, id);
+
+-- CommentRepository.findByParentId
+CREATE INDEX idx_comments_parent_id ON comments (parent_id);
+
+-- BookmarkRepository.findSummariesByUserEmail / findSummariesByUserEmailBefore (키셋 페이지네이션)
+-- findByUserEmailWithPost, findPostIdsByUserEmailAndPostIdIn 은 PK(user_email, post_id) 를 사용한다.
+CREATE INDEX idx_bookmarks_user_created ON bookmarks (user_email, created_at, post_id);
+
+-- 게시글 기준 북마크 조회와 게시글 삭제 시 FK 검사
+CREATE INDEX idx_bookmarks_post_id ON bookmarks (post_id);
+
+-- 카테고리별 게시글 조회. PostCategoryRepository.findByPostId / findByPostIdIn 은 PK(post_id, category_id) 를 사용한다.
+CREATE INDEX idx_post_categories_category ON post_categories (category_id, post_id);
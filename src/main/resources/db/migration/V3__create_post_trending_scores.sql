@@ -0,0 +1,8 @@
+-- 트렌딩 점수 스냅샷. 재시작 시 메모리 랭킹을 복원하는 용도이며 조회 경로에서는 사용하지 않는다.
+CREATE TABLE post_trending_scores (
+    post_id   BIGINT      NOT NULL,
+    score     DOUBLE      NOT NULL,
+    scored_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_post_trending_scores_post FOREIGN KEY (post_id) REFERENCES posts (id) ON DELETE CASCADE
+);
@@ -0,0 +1,19 @@
+-- 사용자별 알림 피드(fan-out-on-write). 댓글이 달리면 게시글 작성자와 북마크한 사용자에게 한 행씩 기록한다.
+-- PK 가 (user_email, comment_id) 이므로 피드 조회는 PK 를 역순으로 읽는 키셋 페이지네이션이 된다.
+CREATE TABLE feed_entries (
+    user_email VARCHAR(100) NOT NULL,
+    comment_id BIGINT       NOT NULL,
+    post_id    BIGINT       NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_email, comment_id),
+    CONSTRAINT fk_feed_entries_user FOREIGN KEY (user_email) REFERENCES users (email) ON DELETE CASCADE,
+    CONSTRAINT fk_feed_entries_comment FOREIGN KEY (comment_id) REFERENCES comments (id) ON DELETE CASCADE
+);
+
+-- 북마크한 사용자가 많은 게시글. 이 게시글의 댓글은 북마크한 사용자에게 복제하지 않고 조회 시점에 합친다(fan-out-on-read).
+CREATE TABLE feed_hot_posts (
+    post_id     BIGINT      NOT NULL,
+    promoted_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_feed_hot_posts_post FOREIGN KEY (post_id) REFERENCES posts (id) ON DELETE CASCADE
+);
@@ -0,0 +1,2 @@
+-- CommentRepository.findVersionByPostId: 조건부 GET 의 COUNT/MAX(updated_at)/MAX(id) 를 인덱스만으로 계산한다.
+CREATE INDEX idx_comments_post_updated ON comments (post_id, updated_at);
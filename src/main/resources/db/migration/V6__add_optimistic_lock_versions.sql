@@ -0,0 +1,4 @@
+-- 낙관적 잠금용 버전 컬럼. 수정은 UPDATE ... WHERE id = ? AND version = ? 한 문장으로 처리한다.
+ALTER TABLE posts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE comments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE categories ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
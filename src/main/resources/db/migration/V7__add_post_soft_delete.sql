@@ -0,0 +1,5 @@
+-- 게시글 소프트 삭제. 삭제 요청은 deleted_at 만 채우고 댓글/북마크/카테고리 매핑은 PostPurgeService 가 나중에 나눠 지운다.
+ALTER TABLE posts ADD COLUMN deleted_at DATETIME(6) NULL;
+
+-- PostPurgeRepository.findDeletedPostIds (삭제된 게시글만 범위 스캔, 살아 있는 게시글은 NULL 이라 읽지 않는다)
+CREATE INDEX idx_posts_deleted_at ON posts (deleted_at, id);
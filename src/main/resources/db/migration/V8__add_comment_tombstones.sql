@@ -0,0 +1,2 @@
+-- 댓글 툼스톤. 답글이 달린 댓글을 지울 때 행은 남겨 스레드 모양을 유지하고 내용만 비운다.
+ALTER TABLE comments ADD COLUMN deleted_at DATETIME(6) NULL;
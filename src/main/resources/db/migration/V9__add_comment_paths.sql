@@ -0,0 +1,7 @@
+-- 댓글 materialized path. 루트부터 자기 자신까지의 id 를 10자리로 이어 붙인 값으로,
+-- 경로 순 정렬이 곧 스레드 순서(부모 다음에 그 답글들)가 된다. 기존 행은 V10 Java 마이그레이션이 채운다.
+ALTER TABLE comments ADD COLUMN path VARCHAR(760) NULL;
+ALTER TABLE comments ADD COLUMN depth INT NOT NULL DEFAULT 0;
+
+-- CommentRepository.findByPostId (스레드 순서), findSubtree / findSubtreeWithinDepth / countDescendants / findSubtreeIds (경로 접두어 범위)
+CREATE INDEX idx_comments_post_path ON comments (post_id, path);
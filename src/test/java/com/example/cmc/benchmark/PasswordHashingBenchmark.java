@@ -0,0 +1,73 @@
+package com.example.cmc.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// ./gradlew benchmark 로 실행한다. 코어당 BCrypt 처리량을 cost별로 측정하여
+// auth.password.bcrypt-strength 와 auth.password.hash-threads 를 정하는 근거로 사용한다.
+@Tag("benchmark")
+@DisplayName("BCrypt 해싱 처리량 벤치마크")
+class PasswordHashingBenchmark {
+
+    private static final int[] STRENGTHS = {8, 10, 12};
+    private static final long MEASURE_MILLIS = 3000;
+
+    @Test
+    @DisplayName("cost별 코어당 검증 처리량")
+    void matchesThroughputPerCore() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%-10s %-8s %-14s %-14s %-12s%n", "strength", "threads", "ops/sec", "ops/sec/core", "ms/op");
+
+        for (int strength : STRENGTHS) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+            String hash = encoder.encode("password123");
+            encoder.matches("password123", hash); // warm-up
+
+            int[] threadCounts = cores > 1 ? new int[]{1, cores} : new int[]{1};
+            for (int threads : threadCounts) {
+                double opsPerSecond = measure(encoder, hash, threads);
+                System.out.printf("%-10d %-8d %-14.1f %-14.1f %-12.2f%n",
+                        strength, threads, opsPerSecond, opsPerSecond / threads, 1000.0 * threads / opsPerSecond);
+                assertTrue(opsPerSecond > 0);
+            }
+        }
+    }
+
+    private double measure(BCryptPasswordEncoder encoder, String hash, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MEASURE_MILLIS);
+        long startedAt = System.nanoTime();
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    long operations = 0;
+                    while (System.nanoTime() < deadline) {
+                        encoder.matches("password123", hash);
+                        operations++;
+                    }
+                    return operations;
+                }));
+            }
+            long total = 0;
+            for (Future<Long> result : results) {
+                total += result.get();
+            }
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            return total / elapsedSeconds;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
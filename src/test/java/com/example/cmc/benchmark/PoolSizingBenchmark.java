@@ -0,0 +1,181 @@
+package com.example.cmc.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// 실행 중인 인스턴스의 요청 풀 크기를 /api/admin/pools 로 바꿔 가며 같은 부하를 주고 지연 시간을 잰다.
+// p99 가 목표 이하이고 오류가 없는 가장 작은 풀 크기를 DB_POOL_MAX_SIZE 후보로 출력한다. 측정이 끝나면 원래 설정으로 되돌린다.
+// ./gradlew poolSizing -PpoolSizingBaseUrl=http://localhost:8080 -PpoolSizes=2,4,8,16 -PtargetP99Ms=200 -Pclients=32
+@Tag("pool-sizing")
+@DisplayName("커넥션 풀 크기별 지연 시간 측정")
+class PoolSizingBenchmark {
+
+    private static final String BASE_URL = System.getProperty("pool-sizing.base-url", "http://localhost:8080");
+    private static final String POOL = System.getProperty("pool-sizing.pool", "cmc-request");
+    private static final String PATH = System.getProperty("pool-sizing.path", "/api/posts/feed?size=20");
+    private static final int[] SIZES = Arrays.stream(System.getProperty("pool-sizing.sizes", "2,4,8,16").split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    private static final int CLIENTS = Integer.getInteger("pool-sizing.clients", 32);
+    private static final long WARMUP_MILLIS = Long.getLong("pool-sizing.warmup-ms", 5000);
+    private static final long MEASURE_MILLIS = Long.getLong("pool-sizing.measure-ms", 20000);
+    private static final long TARGET_P99_MILLIS = Long.getLong("pool-sizing.target-p99-ms", 200);
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private record Result(int poolSize, double requestsPerSecond, double p50, double p95, double p99, double max,
+                          long errors, int peakWaiting) {
+    }
+
+    @Test
+    @DisplayName("풀 크기별 처리량과 p50/p95/p99")
+    void findSmallestPoolMeetingTarget() throws Exception {
+        HttpClient admin = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        assertEquals(200, send(admin, "POST", "/api/auth/login", Map.of(
+                "email", System.getProperty("pool-sizing.admin-email", "admin@example.com"),
+                "password", System.getProperty("pool-sizing.admin-password", "admin123"))).statusCode());
+        JsonNode original = poolStats(admin);
+
+        HttpClient load = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<Result> results = new ArrayList<>();
+        try {
+            for (int size : SIZES) {
+                // 측정 중에는 풀이 늘었다 줄었다 하지 않도록 최소 유휴 수를 최대 크기와 같게 둔다.
+                assertEquals(200, send(admin, "PUT", "/api/admin/pools/" + POOL,
+                        Map.of("maximumPoolSize", size, "minimumIdle", size)).statusCode());
+                run(load, size, WARMUP_MILLIS, null);
+                results.add(run(load, size, MEASURE_MILLIS, admin));
+            }
+        } finally {
+            send(admin, "PUT", "/api/admin/pools/" + POOL, Map.of(
+                    "maximumPoolSize", original.get("maximumPoolSize").asInt(),
+                    "minimumIdle", original.get("minimumIdle").asInt()));
+        }
+
+        System.out.printf("%s %s, clients=%d, target p99=%dms%n", POOL, PATH, CLIENTS, TARGET_P99_MILLIS);
+        System.out.printf("%-6s %-10s %-9s %-9s %-9s %-9s %-8s %-8s%n",
+                "pool", "req/sec", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "errors", "waiting");
+        for (Result result : results) {
+            System.out.printf("%-6d %-10.1f %-9.2f %-9.2f %-9.2f %-9.2f %-8d %-8d%n",
+                    result.poolSize(), result.requestsPerSecond(), result.p50(), result.p95(), result.p99(),
+                    result.max(), result.errors(), result.peakWaiting());
+        }
+        results.stream()
+                .filter(result -> result.p99() <= TARGET_P99_MILLIS && result.errors() == 0)
+                .findFirst()
+                .ifPresentOrElse(
+                        result -> System.out.printf("목표를 만족하는 가장 작은 풀 크기: %d%n", result.poolSize()),
+                        () -> System.out.println("목표를 만족하는 풀 크기가 없습니다. 풀 밖의 병목(CPU, 쿼리)을 먼저 확인하세요."));
+        assertFalse(results.isEmpty());
+    }
+
+    // CLIENTS 개의 스레드가 쉬지 않고 요청을 보낸다. admin 이 있으면 측정 중 커넥션을 기다린 스레드 수의 최댓값을 함께 잰다.
+    private Result run(HttpClient load, int poolSize, long millis, HttpClient admin) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        long startedAt = System.nanoTime();
+        AtomicLong errors = new AtomicLong();
+        try {
+            List<Future<long[]>> futures = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(BASE_URL + PATH))
+                            .timeout(Duration.ofSeconds(30))
+                            .GET()
+                            .build();
+                    while (System.nanoTime() < deadline) {
+                        long sentAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = load.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - sentAt;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+
+            int peakWaiting = 0;
+            while (admin != null && System.nanoTime() < deadline) {
+                peakWaiting = Math.max(peakWaiting, poolStats(admin).get("threadsAwaitingConnection").asInt());
+                Thread.sleep(500);
+            }
+
+            List<long[]> perClient = new ArrayList<>(CLIENTS);
+            for (Future<long[]> future : futures) {
+                perClient.add(future.get());
+            }
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Result(poolSize, all.length / elapsedSeconds,
+                    percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99), percentile(all, 1.0),
+                    errors.get(), peakWaiting);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private JsonNode poolStats(HttpClient admin) throws Exception {
+        HttpResponse<String> response = send(admin, "GET", "/api/admin/pools/" + POOL, null);
+        assertEquals(200, response.statusCode(), response.body());
+        return JSON.readTree(response.body());
+    }
+
+    private static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static HttpResponse<String> send(HttpClient client, String method, String path, Object body) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(BASE_URL + path))
+                .timeout(Duration.ofSeconds(10))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)));
+        if (body != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
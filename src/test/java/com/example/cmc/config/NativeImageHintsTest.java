@@ -0,0 +1,51 @@
+package com.example.cmc.config;
+
+import com.example.cmc.dto.response.RelatedPostResponse;
+import com.example.cmc.entity.BookmarkId;
+import com.example.cmc.entity.PostCategoryId;
+import com.example.cmc.service.ViewCountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NativeImageHints 단위 테스트")
+class NativeImageHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeImageHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("템플릿에서만 읽는 DTO 의 접근자 등록")
+    void registersTemplateOnlyDtos() {
+        // when & then
+        assertTrue(RuntimeHintsPredicates.reflection().onMethodInvocation(RelatedPostResponse.class, "getTitle").test(hints));
+    }
+
+    @Test
+    @DisplayName("복합 키 클래스의 생성자와 필드 등록")
+    void registersIdClasses() {
+        // when & then
+        for (Class<?> idClass : new Class<?>[]{BookmarkId.class, PostCategoryId.class}) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(idClass)
+                    .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.ACCESS_DECLARED_FIELDS)
+                    .test(hints));
+        }
+    }
+
+    @Test
+    @DisplayName("@Scheduled 빈의 타입 등록")
+    void registersScheduledBeans() {
+        // when & then
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ViewCountService.class).test(hints));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.cmc.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RetryLaterPolicy 단위 테스트")
+class RetryLaterPolicyTest {
+
+    private ThreadPoolExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("거절된 작업은 호출한 스레드가 아닌 풀 스레드에서 나중에 실행")
+    void rejectedTask_RunsLaterOnPoolThread() throws InterruptedException {
+        // given
+        RetryLaterPolicy policy = new RetryLaterPolicy("test", 10, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        executor = newExecutor(policy);
+        executor.execute(() -> awaitQuietly(release));
+        executor.execute(() -> { });
+
+        // when
+        executor.execute(() -> {
+            ranOn.set(Thread.currentThread());
+            done.countDown();
+        });
+
+        // then
+        assertNull(ranOn.get());
+        assertEquals(1, policy.getDeferredCount());
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertNotEquals(Thread.currentThread(), ranOn.get());
+        assertTrue(ranOn.get().getName().startsWith("pool-"));
+    }
+
+    @Test
+    @DisplayName("미뤄 둔 작업이 한도를 넘으면 버림")
+    void rejectedTask_DroppedOverLimit() throws InterruptedException {
+        // given
+        RetryLaterPolicy policy = new RetryLaterPolicy("test", 10, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        executor = newExecutor(policy);
+        executor.execute(() -> awaitQuietly(release));
+        executor.execute(() -> { });
+
+        // when
+        executor.execute(done::countDown);
+        release.countDown();
+
+        // then
+        assertFalse(done.await(200, TimeUnit.MILLISECONDS));
+        assertEquals(0, policy.getDeferredCount());
+    }
+
+    // 스레드 하나, 큐 한 칸짜리 풀
+    private static ThreadPoolExecutor newExecutor(RetryLaterPolicy policy) {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                runnable -> new Thread(runnable, "pool-worker"), policy);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
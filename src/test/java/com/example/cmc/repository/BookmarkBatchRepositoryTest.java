@@ -0,0 +1,82 @@
+package com.example.cmc.repository;
+
+import com.example.cmc.entity.Post;
+import com.example.cmc.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// insertAll 은 네이티브 SQL 이므로 Flyway 스키마(H2 MySQL 모드)에서 실제로 실행해 확인한다.
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("BookmarkBatchRepository 테스트")
+class BookmarkBatchRepositoryTest {
+
+    private static final String USER_EMAIL = "bookmark-batch@example.com";
+
+    @Autowired
+    private BookmarkBatchRepository bookmarkBatchRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRespository userRespository;
+
+    private Post post;
+    private Post deletedPost;
+
+    @BeforeEach
+    void setUp() {
+        userRespository.save(User.builder()
+                .email(USER_EMAIL)
+                .password("password")
+                .nickname("북마크")
+                .role("USER")
+                .build());
+        post = postRepository.save(Post.builder()
+                .title("제목")
+                .content("내용")
+                .authorEmail(USER_EMAIL)
+                .build());
+        deletedPost = postRepository.save(Post.builder()
+                .title("삭제된 제목")
+                .content("내용")
+                .authorEmail(USER_EMAIL)
+                .build());
+        postRepository.softDeleteById(deletedPost.getId(), LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 게시글, 없는 게시글/사용자, 이미 있는 북마크는 건너뛰고 나머지만 추가")
+    void insertAll_SkipsRowsThatCannotBeBookmarked() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        bookmarkBatchRepository.insertAll(List.of(new BookmarkIntent(USER_EMAIL, post.getId(), true, now)));
+
+        // when
+        int inserted = bookmarkBatchRepository.insertAll(List.of(
+                new BookmarkIntent(USER_EMAIL, post.getId(), true, now),
+                new BookmarkIntent(USER_EMAIL, deletedPost.getId(), true, now),
+                new BookmarkIntent(USER_EMAIL, Long.MAX_VALUE, true, now),
+                new BookmarkIntent("missing@example.com", post.getId(), true, now)));
+
+        // then
+        assertEquals(0, inserted);
+        assertTrue(bookmarkRepository.existsByUserEmailAndPostId(USER_EMAIL, post.getId()));
+        assertFalse(bookmarkRepository.existsByUserEmailAndPostId(USER_EMAIL, deletedPost.getId()));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.cmc.repository;
+
+import com.example.cmc.entity.Post;
+import com.example.cmc.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// insertIfAbsent, insertOrTouch 는 네이티브 SQL 이므로 Flyway 스키마(H2 MySQL 모드)에서 실제로 실행해 확인한다.
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("BookmarkRepository 테스트")
+class BookmarkRepositoryTest {
+
+    private static final String USER_EMAIL = "bookmark-repository@example.com";
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRespository userRespository;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        userRespository.save(User.builder()
+                .email(USER_EMAIL)
+                .password("password")
+                .nickname("북마크")
+                .role("USER")
+                .build());
+        post = postRepository.save(Post.builder()
+                .title("제목")
+                .content("내용")
+                .authorEmail(USER_EMAIL)
+                .build());
+    }
+
+    @Test
+    @DisplayName("없으면 추가하고 이미 있으면 무시")
+    void insertIfAbsent_Idempotent() {
+        // when
+        int first = bookmarkRepository.insertIfAbsent(USER_EMAIL, post.getId(), LocalDateTime.now());
+        int second = bookmarkRepository.insertIfAbsent(USER_EMAIL, post.getId(), LocalDateTime.now());
+
+        // then
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertTrue(bookmarkRepository.existsByUserEmailAndPostId(USER_EMAIL, post.getId()));
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 게시글에는 추가하지 않음")
+    void insertIfAbsent_SkipsDeletedPost() {
+        // given
+        postRepository.softDeleteById(post.getId(), LocalDateTime.now());
+
+        // when
+        int inserted = bookmarkRepository.insertIfAbsent(USER_EMAIL, post.getId(), LocalDateTime.now());
+
+        // then
+        assertEquals(0, inserted);
+        assertFalse(bookmarkRepository.existsByUserEmailAndPostId(USER_EMAIL, post.getId()));
+    }
+
+    @Test
+    @DisplayName("없으면 추가해 1, 이미 있으면 2, 삭제 표시된 게시글이면 0을 반환")
+    void insertOrTouch_ReportsOutcome() {
+        // when
+        int inserted = bookmarkRepository.insertOrTouch(USER_EMAIL, post.getId(), LocalDateTime.now());
+        int existing = bookmarkRepository.insertOrTouch(USER_EMAIL, post.getId(), LocalDateTime.now().plusSeconds(1));
+        postRepository.softDeleteById(post.getId(), LocalDateTime.now());
+        bookmarkRepository.deleteByUserEmailAndPostId(USER_EMAIL, post.getId());
+        int deletedPost = bookmarkRepository.insertOrTouch(USER_EMAIL, post.getId(), LocalDateTime.now());
+
+        // then
+        assertEquals(1, inserted);
+        assertEquals(2, existing);
+        assertEquals(0, deletedPost);
+    }
+
+    @Test
+    @DisplayName("사용자가 없으면 무시하지 않고 실패")
+    void insertOrTouch_Fail_UnknownUser() {
+        // when & then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> bookmarkRepository.insertOrTouch("missing@example.com", post.getId(), LocalDateTime.now()));
+    }
+}
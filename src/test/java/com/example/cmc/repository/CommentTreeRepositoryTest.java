@@ -0,0 +1,94 @@
+package com.example.cmc.repository;
+
+import com.example.cmc.entity.Comment;
+import com.example.cmc.entity.Post;
+import com.example.cmc.entity.User;
+import com.example.cmc.service.CommentPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// deleteSubtree 는 네이티브 SQL 이므로 Flyway 스키마(H2 MySQL 모드)에서 실제로 실행해 확인한다.
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("CommentTreeRepository 테스트")
+class CommentTreeRepositoryTest {
+
+    private static final String USER_EMAIL = "comment-tree@example.com";
+
+    @Autowired
+    private CommentTreeRepository commentTreeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRespository userRespository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        userRespository.save(User.builder()
+                .email(USER_EMAIL)
+                .password("password")
+                .nickname("댓글")
+                .role("USER")
+                .build());
+        post = postRepository.save(Post.builder()
+                .title("제목")
+                .content("내용")
+                .authorEmail(USER_EMAIL)
+                .build());
+    }
+
+    @Test
+    @DisplayName("하위 트리만 지우고 형제 트리는 남김")
+    void deleteSubtree_DeletesOnlyDescendants() {
+        // given
+        Comment root = save(null);
+        Comment child = save(root);
+        save(child);
+        save(child);
+        Comment sibling = save(null);
+        Comment siblingChild = save(sibling);
+
+        // when
+        int deleted = commentTreeRepository.deleteSubtree(post.getId(), CommentPath.subtreePattern(root.getPath()));
+
+        // then
+        assertEquals(4, deleted);
+        List<Long> remaining = jdbcTemplate.queryForList(
+                "SELECT id FROM comments WHERE post_id = ? ORDER BY id", Long.class, post.getId());
+        assertEquals(List.of(sibling.getId(), siblingChild.getId()), remaining);
+    }
+
+    private Comment save(Comment parent) {
+        Comment comment = commentRepository.saveAndFlush(Comment.builder()
+                .content("댓글")
+                .authorEmail(USER_EMAIL)
+                .postId(post.getId())
+                .parentId(parent == null ? null : parent.getId())
+                .build());
+        String path = CommentPath.child(parent == null ? null : parent.getPath(), comment.getId());
+        commentRepository.updatePath(comment.getId(), path, CommentPath.depth(path));
+        comment.setPath(path);
+        return comment;
+    }
+}
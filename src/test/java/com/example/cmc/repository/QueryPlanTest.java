@@ -0,0 +1,87 @@
+package com.example.cmc.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// Flyway 마이그레이션으로 만든 스키마에서 핫 쿼리의 실행 계획이 풀 스캔이 아닌지 확인한다.
+// 기본은 H2(MySQL 모드)이며 SPRING_DATASOURCE_URL 로 MySQL 을 지정하면 MySQL EXPLAIN 으로 검사한다.
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("핫 쿼리 실행 계획 테스트")
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            // PostRepository.findByAuthorEmail
+            "SELECT * FROM posts WHERE author_email = 'user@example.com'",
+            // CommentRepository.findByPostId
+            "SELECT * FROM comments WHERE post_id = 1",
+            // CommentRepository.findVersionByPostId
+            "SELECT COUNT(*), MAX(updated_at), MAX(id) FROM comments WHERE post_id = 1",
+            // CommentRepository.findByParentId
+            "SELECT * FROM comments WHERE parent_id = 1",
+            // BookmarkRepository.findSummariesByUserEmailBefore
+            "SELECT b.post_id, p.title, p.author_email, p.created_at, b.created_at FROM bookmarks b JOIN posts p ON p.id = b.post_id "
+                    + "WHERE b.user_email = 'user@example.com' AND (b.created_at < TIMESTAMP '2025-01-01 00:00:00' "
+                    + "OR (b.created_at = TIMESTAMP '2025-01-01 00:00:00' AND b.post_id < 10)) "
+                    + "ORDER BY b.created_at DESC, b.post_id DESC LIMIT 21",
+            // BookmarkRepository.findPostIdsByUserEmailAndPostIdIn
+            "SELECT post_id FROM bookmarks WHERE user_email = 'user@example.com' AND post_id IN (1, 2, 3)",
+            // PostCategoryRepository.findByPostId
+            "SELECT * FROM post_categories WHERE post_id = 1",
+            // PostCategoryRepository.findByPostIdIn
+            "SELECT * FROM post_categories WHERE post_id IN (1, 2, 3)",
+            // 카테고리별 게시글
+            "SELECT post_id FROM post_categories WHERE category_id = 1",
+            // FeedRepository.findBookmarkerEmails
+            "SELECT user_email FROM bookmarks WHERE post_id = 1 AND user_email > '' ORDER BY user_email LIMIT 500",
+            // FeedRepository.findInboxCommentIds
+            "SELECT comment_id FROM feed_entries WHERE user_email = 'user@example.com' AND comment_id < 100 "
+                    + "ORDER BY comment_id DESC LIMIT 21",
+            // CommentRepository.findByPostId (스레드 순서)
+            "SELECT * FROM comments WHERE post_id = 1 ORDER BY path",
+            // CommentRepository.findSubtreeWithinDepth / countDescendants
+            "SELECT c.* FROM comments c JOIN posts p ON p.id = c.post_id "
+                    + "WHERE c.post_id = 1 AND c.path LIKE '0000000001%' AND c.depth <= 3 AND p.deleted_at IS NULL ORDER BY c.path",
+            // CommentTreeRepository.deleteSubtree
+            "SELECT id FROM comments WHERE post_id = 1 AND path LIKE '0000000001%'",
+            // PostPurgeRepository.findDeletedPostIds
+            "SELECT id FROM posts WHERE deleted_at IS NOT NULL ORDER BY deleted_at, id LIMIT 100",
+            // PostPurgeRepository.deleteComments
+            "SELECT id FROM comments WHERE post_id = 1 ORDER BY id DESC LIMIT 500"
+    })
+    @DisplayName("핫 쿼리는 인덱스를 사용")
+    void hotQueriesUseIndexes(String sql) throws Exception {
+        if (isMySql()) {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+            plan.forEach(row -> assertFalse("ALL".equals(row.get("type")), "full scan: " + row));
+        } else {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+            assertFalse(plan.contains("tableScan"), plan);
+        }
+    }
+
+    private boolean isMySql() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+        }
+    }
+}
@@ -5,6 +5,8 @@ import com.example.cmc.dto.request.SignUpRequest;
 import com.example.cmc.dto.response.SignUpResponse;
 import com.example.cmc.entity.User;
 import com.example.cmc.exception.BadRequestException;
+import com.example.cmc.exception.ServiceUnavailableException;
+import com.example.cmc.exception.TooManyRequestsException;
 import com.example.cmc.exception.UnauthorizedException;
 import com.example.cmc.repository.UserRespository;
 import jakarta.servlet.http.HttpSession;
@@ -15,13 +17,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,11 +34,17 @@ class AuthServiceTest {
     private UserRespository userRespository;
 
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
 
     @Mock
     private HttpSession httpSession;
 
+    @Mock
+    private TableRowCounter tableRowCounter;
+
     @InjectMocks
     private AuthService authService;
 
@@ -68,7 +76,7 @@ class AuthServiceTest {
     void signUp_Success() {
         // given
         when(userRespository.existsById(anyString())).thenReturn(false);
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
         when(userRespository.save(any(User.class))).thenReturn(testUser);
 
         // when
@@ -80,7 +88,7 @@ class AuthServiceTest {
         assertEquals("테스트유저", response.getNickname());
         assertEquals("회원가입이 완료되었습니다.", response.getMessage());
         verify(userRespository, times(1)).existsById(anyString());
-        verify(passwordEncoder, times(1)).encode(anyString());
+        verify(passwordHashingService, times(1)).encode(anyString());
         verify(userRespository, times(1)).save(any(User.class));
     }
 
@@ -101,7 +109,7 @@ class AuthServiceTest {
     void login_Success() {
         // given
         when(userRespository.findById(anyString())).thenReturn(Optional.of(testUser));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordHashingService.matches(anyString(), anyString())).thenReturn(true);
         doNothing().when(httpSession).setAttribute(anyString(), any());
 
         // when
@@ -113,7 +121,7 @@ class AuthServiceTest {
         assertEquals("테스트유저", response.getNickname());
         assertEquals("로그인에 성공했습니다.", response.getMessage());
         verify(userRespository, times(1)).findById(anyString());
-        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+        verify(passwordHashingService, times(1)).matches(anyString(), anyString());
         verify(httpSession, times(1)).setAttribute(anyString(), any());
     }
 
@@ -126,7 +134,7 @@ class AuthServiceTest {
         // when & then
         assertThrows(UnauthorizedException.class, () -> authService.login(loginRequest, httpSession));
         verify(userRespository, times(1)).findById(anyString());
-        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(passwordHashingService, never()).matches(anyString(), anyString());
     }
 
     @Test
@@ -134,12 +142,70 @@ class AuthServiceTest {
     void login_Fail_WrongPassword() {
         // given
         when(userRespository.findById(anyString())).thenReturn(Optional.of(testUser));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+        when(passwordHashingService.matches(anyString(), anyString())).thenReturn(false);
 
         // when & then
         assertThrows(UnauthorizedException.class, () -> authService.login(loginRequest, httpSession));
         verify(userRespository, times(1)).findById(anyString());
-        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+        verify(passwordHashingService, times(1)).matches(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 낮은 cost 해시 재해싱")
+    void login_Success_RehashesWeakHash() {
+        // given
+        when(userRespository.findById(anyString())).thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordHashingService.needsRehash("encodedPassword")).thenReturn(true);
+        when(passwordHashingService.encode("password123")).thenReturn("upgradedPassword");
+
+        // when
+        authService.login(loginRequest, httpSession);
+
+        // then
+        verify(userRespository, times(1)).updatePassword(eq("test@example.com"), eq("upgradedPassword"), any());
+        verify(httpSession, times(1)).setAttribute(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 해싱 풀 포화 시 재해싱 생략")
+    void login_Success_SkipsRehashWhenBusy() {
+        // given
+        when(userRespository.findById(anyString())).thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordHashingService.needsRehash("encodedPassword")).thenReturn(true);
+        when(passwordHashingService.encode("password123")).thenThrow(new ServiceUnavailableException("busy"));
+
+        // when
+        var response = authService.login(loginRequest, httpSession);
+
+        // then
+        assertNotNull(response);
+        verify(userRespository, never()).updatePassword(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - 이메일 시도 횟수 초과")
+    void login_Fail_RateLimited() {
+        // given
+        doThrow(new TooManyRequestsException("limited", 6)).when(loginRateLimiter).checkEmail("test@example.com");
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> authService.login(loginRequest, httpSession));
+        verify(userRespository, never()).findById(anyString());
+        verify(passwordHashingService, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - 해싱 풀 포화")
+    void login_Fail_HashingPoolBusy() {
+        // given
+        when(userRespository.findById(anyString())).thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches(anyString(), anyString())).thenThrow(new ServiceUnavailableException("busy"));
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> authService.login(loginRequest, httpSession));
+        verify(httpSession, never()).setAttribute(anyString(), any());
     }
 
     @Test
@@ -1,8 +1,11 @@
 package com.example.cmc.service;
 
 import com.example.cmc.dto.request.BookmarkCreateRequest;
+import com.example.cmc.dto.response.BookmarkSummaryResponse;
+import com.example.cmc.dto.response.BookmarkToggleResponse;
+import com.example.cmc.dto.response.CursorPageResponse;
+import com.example.cmc.dto.response.PostResponse;
 import com.example.cmc.entity.Bookmark;
-import com.example.cmc.entity.BookmarkId;
 import com.example.cmc.entity.Post;
 import com.example.cmc.exception.BadRequestException;
 import com.example.cmc.exception.NotFoundException;
@@ -14,17 +17,25 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,9 +54,21 @@ class BookmarkServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private BookmarkWriteBuffer bookmarkWriteBuffer;
+
+    @Mock
+    private TableRowCounter tableRowCounter;
+
     @InjectMocks
     private BookmarkService bookmarkService;
 
+    @Captor
+    private ArgumentCaptor<Collection<Long>> postIdsCaptor;
+
     private Post testPost;
     private Bookmark testBookmark;
     private BookmarkCreateRequest createRequest;
@@ -93,6 +116,7 @@ class BookmarkServiceTest {
         verify(bookmarkRepository, times(1)).existsByUserEmailAndPostId(anyString(), anyLong());
         verify(postRepository, times(1)).findById(1L);
         verify(bookmarkRepository, times(1)).save(any(Bookmark.class));
+        verify(trendingService, times(1)).recordBookmark(1L);
     }
 
     @Test
@@ -123,59 +147,270 @@ class BookmarkServiceTest {
     }
 
     @Test
-    @DisplayName("사용자 북마크 목록 조회 성공")
-    void getBookmarksByUser_Success() {
+    @DisplayName("북마크 삭제 성공")
+    void deleteBookmark_Success() {
         // given
-        when(bookmarkRepository.findByUserEmailWithPost("user@example.com")).thenReturn(List.of(testBookmark));
-        when(postCategoryRepository.findByPostIdIn(anyList())).thenReturn(List.of());
+        when(bookmarkRepository.deleteByUserEmailAndPostId("user@example.com", 1L)).thenReturn(1);
 
         // when
-        List<?> responses = bookmarkService.getBookmarksByUser("user@example.com");
+        bookmarkService.deleteBookmark("user@example.com", 1L);
 
         // then
-        assertNotNull(responses);
-        verify(bookmarkRepository, times(1)).findByUserEmailWithPost("user@example.com");
+        verify(bookmarkRepository, times(1)).deleteByUserEmailAndPostId("user@example.com", 1L);
+        verify(bookmarkRepository, never()).existsByUserEmailAndPostId(anyString(), anyLong());
     }
 
     @Test
-    @DisplayName("사용자 북마크 목록 조회 성공 - 빈 목록")
-    void getBookmarksByUser_Success_Empty() {
+    @DisplayName("북마크 삭제 실패 - 존재하지 않음")
+    void deleteBookmark_Fail_NotFound() {
         // given
-        when(bookmarkRepository.findByUserEmailWithPost("user@example.com")).thenReturn(List.of());
+        when(bookmarkRepository.deleteByUserEmailAndPostId("user@example.com", 1L)).thenReturn(0);
+
+        // when & then
+        assertThrows(NotFoundException.class, () -> bookmarkService.deleteBookmark("user@example.com", 1L));
+        verify(bookmarkRepository, times(1)).deleteByUserEmailAndPostId("user@example.com", 1L);
+    }
+
+    @Test
+    @DisplayName("북마크 토글 - 해제")
+    void toggleBookmark_Removed() {
+        // given
+        when(bookmarkRepository.insertOrTouch(eq("user@example.com"), eq(1L), any())).thenReturn(2);
+        when(bookmarkRepository.deleteByUserEmailAndPostId("user@example.com", 1L)).thenReturn(1);
 
         // when
-        List<?> responses = bookmarkService.getBookmarksByUser("user@example.com");
+        BookmarkToggleResponse response = bookmarkService.toggleBookmark(createRequest);
 
         // then
-        assertNotNull(responses);
-        assertTrue(responses.isEmpty());
-        verify(bookmarkRepository, times(1)).findByUserEmailWithPost("user@example.com");
+        assertFalse(response.isBookmarked());
+        verify(bookmarkRepository, never()).existsByUserEmailAndPostId(anyString(), anyLong());
+        verify(trendingService, never()).recordBookmark(anyLong());
+        verifyNoInteractions(postRepository, postCategoryRepository, categoryRepository);
     }
 
     @Test
-    @DisplayName("북마크 삭제 성공")
-    void deleteBookmark_Success() {
+    @DisplayName("북마크 토글 - 추가는 한 문장")
+    void toggleBookmark_Added() {
         // given
+        when(bookmarkRepository.insertOrTouch(eq("user@example.com"), eq(1L), any())).thenReturn(1);
+
+        // when
+        BookmarkToggleResponse response = bookmarkService.toggleBookmark(createRequest);
+
+        // then
+        assertTrue(response.isBookmarked());
+        assertEquals(1L, response.getPostId());
+        verify(trendingService, times(1)).recordBookmark(1L);
+        verify(bookmarkRepository, never()).deleteByUserEmailAndPostId(anyString(), anyLong());
+        verify(bookmarkRepository, never()).existsByUserEmailAndPostId(anyString(), anyLong());
+        verifyNoInteractions(postRepository, postCategoryRepository, categoryRepository);
+    }
+
+    @Test
+    @DisplayName("북마크 토글 - 바뀐 행이 없으면 존재 여부로 이미 있던 북마크를 구분해 해제")
+    void toggleBookmark_Removed_NoRowChanged() {
+        // given
+        when(bookmarkRepository.insertOrTouch(eq("user@example.com"), eq(1L), any())).thenReturn(0);
         when(bookmarkRepository.existsByUserEmailAndPostId("user@example.com", 1L)).thenReturn(true);
-        doNothing().when(bookmarkRepository).deleteById(any(BookmarkId.class));
+        when(bookmarkRepository.deleteByUserEmailAndPostId("user@example.com", 1L)).thenReturn(1);
 
         // when
-        bookmarkService.deleteBookmark("user@example.com", 1L);
+        BookmarkToggleResponse response = bookmarkService.toggleBookmark(createRequest);
 
         // then
-        verify(bookmarkRepository, times(1)).existsByUserEmailAndPostId("user@example.com", 1L);
-        verify(bookmarkRepository, times(1)).deleteById(any(BookmarkId.class));
+        assertFalse(response.isBookmarked());
     }
 
     @Test
-    @DisplayName("북마크 삭제 실패 - 존재하지 않음")
-    void deleteBookmark_Fail_NotFound() {
+    @DisplayName("북마크 토글 실패 - 게시글 없음")
+    void toggleBookmark_Fail_PostNotFound() {
         // given
+        when(bookmarkRepository.insertOrTouch(eq("user@example.com"), eq(1L), any())).thenReturn(0);
         when(bookmarkRepository.existsByUserEmailAndPostId("user@example.com", 1L)).thenReturn(false);
 
         // when & then
-        assertThrows(NotFoundException.class, () -> bookmarkService.deleteBookmark("user@example.com", 1L));
-        verify(bookmarkRepository, times(1)).existsByUserEmailAndPostId("user@example.com", 1L);
-        verify(bookmarkRepository, never()).deleteById(any(BookmarkId.class));
+        assertThrows(NotFoundException.class, () -> bookmarkService.toggleBookmark(createRequest));
+        verify(bookmarkRepository, never()).deleteByUserEmailAndPostId(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("북마크 토글 실패 - 사용자 없음")
+    void toggleBookmark_Fail_UserNotFound() {
+        // given
+        when(bookmarkRepository.insertOrTouch(eq("user@example.com"), eq(1L), any()))
+                .thenThrow(new DataIntegrityViolationException("fk_bookmarks_user"));
+
+        // when & then
+        assertThrows(NotFoundException.class, () -> bookmarkService.toggleBookmark(createRequest));
+    }
+
+    @Test
+    @DisplayName("북마크 추가 실패 - 쓰기 지연 모드에서 삭제 표시된 게시글")
+    void addBookmark_WriteBehind_DeletedPost() {
+        // given
+        when(bookmarkWriteBuffer.isEnabled()).thenReturn(true);
+        when(bookmarkWriteBuffer.pendingState("user@example.com", 1L)).thenReturn(Optional.empty());
+        when(bookmarkRepository.existsByUserEmailAndPostId("user@example.com", 1L)).thenReturn(false);
+        when(postRepository.existsById(1L)).thenReturn(false);
+
+        // when
+        boolean added = bookmarkService.addBookmark("user@example.com", 1L);
+
+        // then
+        assertFalse(added);
+        verify(bookmarkWriteBuffer, never()).submit(anyString(), anyLong(), anyBoolean());
+        verify(trendingService, never()).recordBookmark(anyLong());
+    }
+
+    @Test
+    @DisplayName("조회자 북마크 표시 - IN 쿼리 한 번")
+    void applyBookmarkedFlags_Success() {
+        // given
+        PostResponse post1 = PostResponse.builder().id(1L).build();
+        PostResponse post2 = PostResponse.builder().id(2L).build();
+        when(bookmarkRepository.findPostIdsByUserEmailAndPostIdIn(eq("user@example.com"), anyCollection()))
+                .thenReturn(List.of(2L));
+
+        // when
+        bookmarkService.applyBookmarkedFlags("user@example.com", List.of(post1, post2));
+
+        // then
+        assertFalse(post1.isBookmarkedByViewer());
+        assertTrue(post2.isBookmarkedByViewer());
+        verify(bookmarkRepository, times(1)).findPostIdsByUserEmailAndPostIdIn(eq("user@example.com"), anyCollection());
+    }
+
+    @Test
+    @DisplayName("조회자 북마크 표시 - 게시글이 많으면 IN 목록을 나눠 조회")
+    void applyBookmarkedFlags_ChunksLargeLists() {
+        // given
+        List<PostResponse> posts = LongStream.rangeClosed(1, 1200)
+                .mapToObj(id -> PostResponse.builder().id(id).build())
+                .toList();
+        when(bookmarkRepository.findPostIdsByUserEmailAndPostIdIn(eq("user@example.com"), anyCollection()))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of(1200L))
+                .thenReturn(List.of());
+
+        // when
+        bookmarkService.applyBookmarkedFlags("user@example.com", posts);
+
+        // then
+        verify(bookmarkRepository, times(3)).findPostIdsByUserEmailAndPostIdIn(eq("user@example.com"), postIdsCaptor.capture());
+        assertEquals(List.of(500, 500, 200), postIdsCaptor.getAllValues().stream().map(Collection::size).toList());
+        assertTrue(posts.get(0).isBookmarkedByViewer());
+        assertTrue(posts.get(1199).isBookmarkedByViewer());
+        assertFalse(posts.get(600).isBookmarkedByViewer());
+    }
+
+    @Test
+    @DisplayName("조회자 북마크 표시 - 쓰기 지연 버퍼의 대기 요청을 덮어씀")
+    void applyBookmarkedFlags_MergesPendingIntents() {
+        // given
+        PostResponse post1 = PostResponse.builder().id(1L).build();
+        PostResponse post2 = PostResponse.builder().id(2L).build();
+        when(bookmarkRepository.findPostIdsByUserEmailAndPostIdIn(eq("user@example.com"), anyCollection()))
+                .thenReturn(List.of(2L));
+        when(bookmarkWriteBuffer.pendingStates("user@example.com")).thenReturn(Map.of(1L, true, 2L, false));
+
+        // when
+        bookmarkService.applyBookmarkedFlags("user@example.com", List.of(post1, post2));
+
+        // then
+        assertTrue(post1.isBookmarkedByViewer());
+        assertFalse(post2.isBookmarkedByViewer());
+    }
+
+    @Test
+    @DisplayName("북마크 토글 - 쓰기 지연 모드는 DB 대신 버퍼에 기록")
+    void toggleBookmark_WriteBehind() {
+        // given
+        when(bookmarkWriteBuffer.isEnabled()).thenReturn(true);
+        when(bookmarkWriteBuffer.pendingState("user@example.com", 1L)).thenReturn(Optional.empty());
+        when(bookmarkRepository.existsByUserEmailAndPostId("user@example.com", 1L)).thenReturn(false);
+        when(postRepository.existsById(1L)).thenReturn(true);
+
+        // when
+        BookmarkToggleResponse response = bookmarkService.toggleBookmark(createRequest);
+
+        // then
+        assertTrue(response.isBookmarked());
+        verify(bookmarkWriteBuffer, times(1)).submit("user@example.com", 1L, true);
+        verify(bookmarkWriteBuffer, never()).submit("user@example.com", 1L, false);
+        verify(bookmarkRepository, never()).insertOrTouch(anyString(), anyLong(), any());
+        verify(bookmarkRepository, never()).deleteByUserEmailAndPostId(anyString(), anyLong());
+        verify(trendingService, times(1)).recordBookmark(1L);
+    }
+
+    @Test
+    @DisplayName("조회자 북마크 표시 - 비로그인은 조회하지 않음")
+    void applyBookmarkedFlags_Anonymous() {
+        // given
+        PostResponse post = PostResponse.builder().id(1L).build();
+
+        // when
+        bookmarkService.applyBookmarkedFlags(null, List.of(post));
+
+        // then
+        assertFalse(post.isBookmarkedByViewer());
+        verifyNoInteractions(bookmarkRepository);
+    }
+
+    @Test
+    @DisplayName("북마크 페이지 조회 - 다음 커서 생성")
+    void getBookmarkPage_HasNext() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<BookmarkSummaryResponse> rows = List.of(
+                summary(3L, now),
+                summary(2L, now.minusMinutes(1)),
+                summary(1L, now.minusMinutes(2)));
+        when(bookmarkRepository.findSummariesByUserEmail("user@example.com", Limit.of(3))).thenReturn(rows);
+
+        // when
+        CursorPageResponse<BookmarkSummaryResponse> page = bookmarkService.getBookmarkPage("user@example.com", null, 2);
+
+        // then
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("북마크 페이지 조회 - 커서 이후 조회")
+    void getBookmarkPage_WithCursor() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        when(bookmarkRepository.findSummariesByUserEmail("user@example.com", Limit.of(2)))
+                .thenReturn(List.of(summary(3L, now), summary(2L, now.minusMinutes(1))));
+        String cursor = bookmarkService.getBookmarkPage("user@example.com", null, 1).getNextCursor();
+        when(bookmarkRepository.findSummariesByUserEmailBefore("user@example.com", now, 3L, Limit.of(2)))
+                .thenReturn(List.of(summary(2L, now.minusMinutes(1))));
+
+        // when
+        CursorPageResponse<BookmarkSummaryResponse> page = bookmarkService.getBookmarkPage("user@example.com", cursor, 1);
+
+        // then
+        assertEquals(1, page.getItems().size());
+        assertEquals(2L, page.getItems().get(0).getPostId());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("북마크 페이지 조회 실패 - 잘못된 커서")
+    void getBookmarkPage_Fail_InvalidCursor() {
+        // when & then
+        assertThrows(BadRequestException.class,
+                () -> bookmarkService.getBookmarkPage("user@example.com", "not-a-cursor", 20));
+    }
+
+    private BookmarkSummaryResponse summary(Long postId, LocalDateTime bookmarkedAt) {
+        return BookmarkSummaryResponse.builder()
+                .postId(postId)
+                .title("제목" + postId)
+                .authorEmail("test@example.com")
+                .bookmarkedAt(bookmarkedAt)
+                .build();
     }
 }
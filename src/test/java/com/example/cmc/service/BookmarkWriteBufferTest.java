@@ -0,0 +1,156 @@
+package com.example.cmc.service;
+
+import com.example.cmc.exception.ServiceUnavailableException;
+import com.example.cmc.repository.BookmarkBatchRepository;
+import com.example.cmc.repository.BookmarkIntent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookmarkWriteBuffer 단위 테스트")
+class BookmarkWriteBufferTest {
+
+    @Mock
+    private BookmarkBatchRepository bookmarkBatchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TableRowCounter tableRowCounter;
+
+    @TempDir
+    private Path journalDir;
+
+    private BookmarkWriteBuffer newBuffer() {
+        return new BookmarkWriteBuffer(bookmarkBatchRepository, tableRowCounter, transactionManager, true, journalDir.toString(), 2000);
+    }
+
+    @Test
+    @DisplayName("같은 사용자/게시글의 요청은 마지막 것만 반영")
+    void flush_CoalescesPerUserAndPost() {
+        // given
+        BookmarkWriteBuffer buffer = newBuffer();
+        buffer.submit("user@example.com", 1L, true);
+        buffer.submit("user@example.com", 1L, false);
+        buffer.submit("user@example.com", 2L, true);
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<List<BookmarkIntent>> removals = ArgumentCaptor.captor();
+        ArgumentCaptor<List<BookmarkIntent>> additions = ArgumentCaptor.captor();
+        verify(bookmarkBatchRepository, times(1)).deleteAll(removals.capture());
+        verify(bookmarkBatchRepository, times(1)).insertAll(additions.capture());
+        assertEquals(List.of(1L), removals.getValue().stream().map(BookmarkIntent::postId).toList());
+        assertEquals(List.of(2L), additions.getValue().stream().map(BookmarkIntent::postId).toList());
+        assertEquals(0, buffer.getPendingCount());
+        buffer.shutdown();
+    }
+
+    @Test
+    @DisplayName("반영 전 재시작하면 저널에서 복구")
+    void constructor_RecoversFromJournal() {
+        // given
+        BookmarkWriteBuffer crashed = newBuffer();
+        crashed.submit("user@example.com", 1L, true);
+        crashed.submit("user@example.com", 2L, false);
+
+        // when
+        BookmarkWriteBuffer restarted = newBuffer();
+
+        // then
+        assertEquals(Optional.of(true), restarted.pendingState("user@example.com", 1L));
+        assertEquals(Optional.of(false), restarted.pendingState("user@example.com", 2L));
+        assertEquals(2, restarted.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("저널 기록에 실패한 요청은 이전 요청으로 되돌리고 재시작해도 살아나지 않음")
+    void submit_RevertsFailedIntent() {
+        // given
+        // (1, 삭제)와 (2, 추가) 요청은 저널에 기록되지만 fsync 시간 초과로 실패한 것처럼 응답한다.
+        BookmarkJournal journal = new BookmarkJournal(journalDir) {
+            @Override
+            public CompletableFuture<Void> append(BookmarkIntent intent) {
+                CompletableFuture<Void> synced = super.append(intent);
+                if (intent.bookmarked() == (intent.postId() == 2L)) {
+                    synced.join();
+                    return CompletableFuture.failedFuture(new TimeoutException());
+                }
+                return synced;
+            }
+        };
+        BookmarkWriteBuffer crashed = new BookmarkWriteBuffer(bookmarkBatchRepository, tableRowCounter, transactionManager, journal, 2000);
+        crashed.submit("user@example.com", 1L, true);
+
+        // when
+        assertThrows(ServiceUnavailableException.class, () -> crashed.submit("user@example.com", 1L, false));
+        assertThrows(ServiceUnavailableException.class, () -> crashed.submit("user@example.com", 2L, true));
+        // 저널은 순서대로 기록되므로 이 요청이 끝나면 되돌린 줄도 모두 기록되어 있다.
+        crashed.submit("user@example.com", 3L, true);
+        BookmarkWriteBuffer restarted = newBuffer();
+
+        // then
+        assertEquals(Optional.of(true), crashed.pendingState("user@example.com", 1L));
+        assertEquals(Optional.empty(), crashed.pendingState("user@example.com", 2L));
+        assertEquals(Optional.of(true), restarted.pendingState("user@example.com", 1L));
+        assertEquals(Optional.empty(), restarted.pendingState("user@example.com", 2L));
+        assertEquals(2, restarted.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("반영이 끝나면 닫힌 저널 세그먼트를 삭제")
+    void flush_DeletesSealedSegments() throws IOException {
+        // given
+        BookmarkWriteBuffer buffer = newBuffer();
+        buffer.submit("user@example.com", 1L, true);
+
+        // when
+        buffer.flush();
+
+        // then
+        try (Stream<Path> files = Files.list(journalDir)) {
+            List<Path> segments = files.toList();
+            assertEquals(1, segments.size());
+            assertEquals(0, Files.size(segments.get(0)));
+        }
+        buffer.shutdown();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 대기 요청을 유지")
+    void flush_KeepsPendingOnFailure() {
+        // given
+        BookmarkWriteBuffer buffer = newBuffer();
+        buffer.submit("user@example.com", 1L, true);
+        when(bookmarkBatchRepository.insertAll(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        buffer.flush();
+
+        // then
+        assertEquals(Optional.of(true), buffer.pendingState("user@example.com", 1L));
+        assertEquals(1, buffer.getPendingCount());
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.cmc.service;
 
 import com.example.cmc.dto.request.CategoryCreateRequest;
+import com.example.cmc.dto.request.CategoryUpdateRequest;
 import com.example.cmc.dto.response.CategoryResponse;
 import com.example.cmc.entity.Category;
+import com.example.cmc.exception.ConflictException;
 import com.example.cmc.exception.NotFoundException;
 import com.example.cmc.repository.CategoryRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +34,9 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private TableRowCounter tableRowCounter;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -130,6 +136,43 @@ class CategoryServiceTest {
         verify(categoryRepository).findById(999L);
     }
 
+    @Test
+    @DisplayName("카테고리 수정 성공")
+    void updateCategory_Success() {
+        // given
+        CategoryUpdateRequest updateRequest = new CategoryUpdateRequest();
+        updateRequest.setName("테스트 카테고리");
+        when(categoryRepository.updateIfVersionMatches(eq(1L), eq(0L), eq("테스트 카테고리"), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+
+        // when
+        CategoryResponse response = categoryService.updateCategory(1L, updateRequest, 0L);
+
+        // then
+        assertThat(response.getName()).isEqualTo("테스트 카테고리");
+        assertThat(response.getCreatedAt()).isNotNull();
+        verify(categoryRepository, never()).findCurrentVersionById(anyLong());
+    }
+
+    @Test
+    @DisplayName("카테고리 수정 실패 - 버전 충돌")
+    void updateCategory_Fail_VersionConflict() {
+        // given
+        CategoryUpdateRequest updateRequest = new CategoryUpdateRequest();
+        updateRequest.setName("수정된 카테고리");
+        when(categoryRepository.updateIfVersionMatches(eq(1L), eq(0L), eq("수정된 카테고리"), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(categoryRepository.findCurrentVersionById(1L)).thenReturn(Optional.of(2L));
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.updateCategory(1L, updateRequest, 0L))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("다른 사용자가 먼저 카테고리를 수정했습니다.");
+
+        verify(categoryRepository, never()).findById(anyLong());
+    }
+
     @Test
     @DisplayName("카테고리 삭제 성공")
     void deleteCategory_Success() {
@@ -3,8 +3,13 @@ package com.example.cmc.service;
 import com.example.cmc.dto.request.CommentCreateRequest;
 import com.example.cmc.dto.request.CommentUpdateRequest;
 import com.example.cmc.entity.Comment;
+import com.example.cmc.exception.BadRequestException;
+import com.example.cmc.exception.ConflictException;
 import com.example.cmc.exception.NotFoundException;
 import com.example.cmc.repository.CommentRepository;
+import com.example.cmc.repository.CommentTreeRepository;
+import com.example.cmc.repository.PostRepository;
+import com.example.cmc.repository.UserRespository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -20,6 +26,9 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +38,24 @@ class CommentServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private CommentTreeRepository commentTreeRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserRespository userRespository;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TableRowCounter tableRowCounter;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -44,6 +71,8 @@ class CommentServiceTest {
                 .authorEmail("test@example.com")
                 .postId(1L)
                 .parentId(null)
+                .path("0000000001")
+                .depth(0)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
@@ -62,6 +91,7 @@ class CommentServiceTest {
     @DisplayName("댓글 생성 성공")
     void createComment_Success() {
         // given
+        when(postRepository.existsById(1L)).thenReturn(true);
         when(commentRepository.save(any(Comment.class))).thenReturn(testComment);
 
         // when
@@ -74,15 +104,26 @@ class CommentServiceTest {
         assertEquals("test@example.com", response.getAuthorEmail());
         assertEquals(1L, response.getPostId());
         verify(commentRepository, times(1)).save(any(Comment.class));
+        verify(commentRepository, times(1)).updatePath(1L, "0000000001", 0);
+        verify(trendingService, times(1)).recordComment(1L);
+        verify(eventPublisher, times(1)).publishEvent(any(CommentCreatedEvent.class));
     }
 
     @Test
     @DisplayName("댓글 생성 성공 - 대댓글")
     void createComment_Success_Reply() {
         // given
+        when(postRepository.existsById(1L)).thenReturn(true);
         createRequest.setParentId(1L);
-        testComment.setParentId(1L);
-        when(commentRepository.save(any(Comment.class))).thenReturn(testComment);
+        Comment reply = Comment.builder()
+                .id(2L)
+                .content("테스트 댓글")
+                .authorEmail("test@example.com")
+                .postId(1L)
+                .parentId(1L)
+                .build();
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(testComment));
+        when(commentRepository.save(any(Comment.class))).thenReturn(reply);
 
         // when
         var response = commentService.createComment(createRequest);
@@ -90,7 +131,78 @@ class CommentServiceTest {
         // then
         assertNotNull(response);
         assertEquals(1L, response.getParentId());
+        assertEquals(1, response.getDepth());
         verify(commentRepository, times(1)).save(any(Comment.class));
+        verify(commentRepository, times(1)).updatePath(2L, "00000000010000000002", 1);
+    }
+
+    @Test
+    @DisplayName("댓글 생성 실패 - 다른 게시글의 댓글에 답글")
+    void createComment_Fail_ParentInOtherPost() {
+        // given
+        createRequest.setParentId(1L);
+        createRequest.setPostId(2L);
+        when(postRepository.existsById(2L)).thenReturn(true);
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(testComment));
+
+        // when & then
+        assertThrows(BadRequestException.class, () -> commentService.createComment(createRequest));
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    @Test
+    @DisplayName("댓글 생성 실패 - 삭제 표시된 게시글")
+    void createComment_Fail_DeletedPost() {
+        // given
+        when(postRepository.existsById(1L)).thenReturn(false);
+
+        // when & then
+        assertThrows(NotFoundException.class, () -> commentService.createComment(createRequest));
+        verify(commentRepository, never()).save(any(Comment.class));
+        verify(trendingService, never()).recordComment(any());
+    }
+
+    @Test
+    @DisplayName("스레드 조회 성공 - 경로 순서 그대로 반환")
+    void getThread_Success() {
+        // given
+        Comment reply = Comment.builder()
+                .id(2L)
+                .content("답글")
+                .authorEmail("test@example.com")
+                .postId(1L)
+                .parentId(1L)
+                .path("00000000010000000002")
+                .depth(1)
+                .build();
+        when(commentRepository.findVisibleById(1L)).thenReturn(Optional.of(testComment));
+        when(commentRepository.findSubtree(1L, "0000000001%")).thenReturn(List.of(testComment, reply));
+
+        // when
+        var response = commentService.getThread(1L, null);
+
+        // then
+        assertEquals(1L, response.getDescendantCount());
+        assertEquals(List.of(1L, 2L), response.getComments().stream().map(c -> c.getId()).toList());
+        verify(commentRepository, never()).countDescendants(anyLong(), anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("스레드 조회 성공 - 깊이 제한은 루트 기준")
+    void getThread_WithinDepth() {
+        // given
+        testComment.setPath("00000000050000000001");
+        testComment.setDepth(1);
+        when(commentRepository.findVisibleById(1L)).thenReturn(Optional.of(testComment));
+        when(commentRepository.findSubtreeWithinDepth(1L, "00000000050000000001%", 3)).thenReturn(List.of(testComment));
+        when(commentRepository.countDescendants(1L, 1L, "00000000050000000001%")).thenReturn(7L);
+
+        // when
+        var response = commentService.getThread(1L, 2);
+
+        // then
+        assertEquals(7L, response.getDescendantCount());
+        assertEquals(1, response.getComments().size());
     }
 
     @Test
@@ -116,58 +228,122 @@ class CommentServiceTest {
         verify(commentRepository, times(1)).findByPostId(1L);
     }
 
+    @Test
+    @DisplayName("스레드 조회 실패 - 삭제 표시된 게시글의 댓글")
+    void getThread_Fail_DeletedPost() {
+        // given
+        when(commentRepository.findVisibleById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(NotFoundException.class, () -> commentService.getThread(1L, null));
+        verify(commentRepository, never()).findSubtree(anyLong(), anyString());
+    }
+
     @Test
     @DisplayName("댓글 수정 성공")
     void updateComment_Success() {
         // given
+        when(commentRepository.updateIfVersionMatches(eq(1L), isNull(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(1);
         when(commentRepository.findById(1L)).thenReturn(Optional.of(testComment));
-        when(commentRepository.save(any(Comment.class))).thenReturn(testComment);
 
         // when
         var response = commentService.updateComment(1L, updateRequest);
 
         // then
         assertNotNull(response);
-        verify(commentRepository, times(1)).findById(1L);
-        verify(commentRepository, times(1)).save(any(Comment.class));
+        verify(commentRepository, never()).save(any(Comment.class));
+        verify(eventPublisher, times(1)).publishEvent(any(CommentChangedEvent.class));
     }
 
     @Test
     @DisplayName("댓글 수정 실패 - 존재하지 않음")
     void updateComment_Fail_NotFound() {
         // given
-        when(commentRepository.findById(1L)).thenReturn(Optional.empty());
+        when(commentRepository.updateIfVersionMatches(eq(1L), isNull(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(commentRepository.findCurrentVersionById(1L)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(NotFoundException.class, () -> commentService.updateComment(1L, updateRequest));
-        verify(commentRepository, times(1)).findById(1L);
-        verify(commentRepository, never()).save(any(Comment.class));
+        verify(eventPublisher, never()).publishEvent(any(CommentChangedEvent.class));
     }
 
     @Test
-    @DisplayName("댓글 삭제 성공")
+    @DisplayName("댓글 수정 실패 - 버전 충돌")
+    void updateComment_Fail_VersionConflict() {
+        // given
+        when(commentRepository.updateIfVersionMatches(eq(1L), eq(0L), anyString(), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(commentRepository.findCurrentVersionById(1L)).thenReturn(Optional.of(1L));
+
+        // when
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> commentService.updateComment(1L, updateRequest, 0L));
+
+        // then
+        assertEquals(1L, exception.getCurrentVersion());
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 성공 - 하위 답글까지 집합 단위로 삭제")
     void deleteComment_Success() {
         // given
-        when(commentRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(commentRepository).deleteById(1L);
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(testComment));
+        when(commentTreeRepository.deleteSubtree(1L, "0000000001%")).thenReturn(3);
 
         // when
         commentService.deleteComment(1L);
 
         // then
-        verify(commentRepository, times(1)).existsById(1L);
-        verify(commentRepository, times(1)).deleteById(1L);
+        verify(commentTreeRepository, times(1)).deleteSubtree(1L, "0000000001%");
+        verify(tableRowCounter, times(1)).add(TableRowCounter.Table.COMMENTS, -3);
+        verify(commentRepository, never()).delete(any(Comment.class));
+        verify(eventPublisher, times(1)).publishEvent(any(CommentChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 성공 - 툼스톤 모드는 행을 남기고 내용만 비움")
+    void deleteComment_Tombstone() {
+        // given
+        Comment tombstone = Comment.builder()
+                .id(1L)
+                .content("")
+                .authorEmail("test@example.com")
+                .postId(1L)
+                .deletedAt(LocalDateTime.now())
+                .build();
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(testComment)).thenReturn(Optional.of(tombstone));
+        when(commentRepository.tombstoneById(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        commentService.deleteComment(1L, "tombstone");
+
+        // then
+        verify(commentTreeRepository, never()).deleteSubtree(anyLong(), anyString());
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+                event instanceof CommentChangedEvent changed
+                        && changed.type() == CommentChangedEvent.Type.UPDATED
+                        && changed.comment().isDeleted()));
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 실패 - 잘못된 삭제 모드")
+    void deleteComment_Fail_InvalidMode() {
+        // when & then
+        assertThrows(BadRequestException.class, () -> commentService.deleteComment(1L, "soft"));
+        verify(commentRepository, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("댓글 삭제 실패 - 존재하지 않음")
     void deleteComment_Fail_NotFound() {
         // given
-        when(commentRepository.existsById(1L)).thenReturn(false);
+        when(commentRepository.findById(1L)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(NotFoundException.class, () -> commentService.deleteComment(1L));
-        verify(commentRepository, times(1)).existsById(1L);
-        verify(commentRepository, never()).deleteById(anyLong());
+        verify(commentRepository, times(1)).findById(1L);
+        verify(commentTreeRepository, never()).deleteSubtree(anyLong(), anyString());
     }
 }
@@ -0,0 +1,80 @@
+package com.example.cmc.service;
+
+import com.example.cmc.dto.response.CommentResponse;
+import com.example.cmc.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CommentStreamService 단위 테스트")
+class CommentStreamServiceTest {
+
+    private CommentStreamService commentStreamService;
+
+    @BeforeEach
+    void setUp() {
+        commentStreamService = new CommentStreamService(new JsonMapper(), 60_000, 1, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentStreamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독자 수 상한을 넘으면 503")
+    void subscribe_Fail_TooManySubscribers() {
+        // given
+        commentStreamService.subscribe(1L);
+        commentStreamService.subscribe(2L);
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> commentStreamService.subscribe(3L));
+        assertEquals(2, commentStreamService.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 구독자는 목록에서 제거")
+    void onCommentChanged_RemovesBrokenSubscriber() throws Exception {
+        // given
+        SseEmitter emitter = commentStreamService.subscribe(1L);
+        emitter.complete();
+
+        // when
+        waitUntil(() -> {
+            commentStreamService.onCommentChanged(new CommentChangedEvent(CommentChangedEvent.Type.CREATED,
+                    CommentResponse.builder().id(10L).postId(1L).content("새 댓글").build()));
+            return commentStreamService.getSubscriberCount() == 0;
+        });
+
+        // then
+        assertEquals(0, commentStreamService.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("다른 게시글 이벤트는 구독자에게 영향 없음")
+    void onCommentChanged_OtherPostIgnored() {
+        // given
+        commentStreamService.subscribe(1L);
+
+        // when
+        commentStreamService.onCommentChanged(new CommentChangedEvent(CommentChangedEvent.Type.DELETED,
+                CommentResponse.builder().id(10L).postId(2L).build()));
+
+        // then
+        assertEquals(1, commentStreamService.getSubscriberCount());
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.cmc.service;
+
+import com.example.cmc.dto.request.PoolResizeRequest;
+import com.example.cmc.dto.response.PoolStatsResponse;
+import com.example.cmc.exception.BadRequestException;
+import com.example.cmc.exception.NotFoundException;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConnectionPoolService 단위 테스트")
+class ConnectionPoolServiceTest {
+
+    // 첫 커넥션 요청 전이라 실제 풀은 만들어지지 않고 설정 값만 다룬다.
+    private HikariDataSource requestPool;
+    private HikariDataSource backgroundPool;
+    private ConnectionPoolService connectionPoolService;
+
+    @BeforeEach
+    void setUp() {
+        requestPool = pool("cmc-request", 10, 5, 20000);
+        backgroundPool = pool("cmc-background", 2, 1, 60000);
+        connectionPoolService = new ConnectionPoolService(List.of(requestPool, backgroundPool), 50);
+    }
+
+    @Test
+    @DisplayName("풀 목록 조회 - 시작 전 풀은 커넥션 수 0")
+    void getPools() {
+        // when
+        List<PoolStatsResponse> pools = connectionPoolService.getPools();
+
+        // then
+        assertEquals(List.of("cmc-request", "cmc-background"), pools.stream().map(PoolStatsResponse::getName).toList());
+        PoolStatsResponse request = pools.get(0);
+        assertEquals(10, request.getMaximumPoolSize());
+        assertEquals(5, request.getMinimumIdle());
+        assertEquals(20000, request.getLeakDetectionThresholdMs());
+        assertEquals(0, request.getTotalConnections());
+    }
+
+    @Test
+    @DisplayName("풀 크기와 누수 감지 시간 변경")
+    void resize() {
+        // when
+        PoolStatsResponse response = connectionPoolService.resize("cmc-request", new PoolResizeRequest(20, 8, 5000L));
+
+        // then
+        assertEquals(20, response.getMaximumPoolSize());
+        assertEquals(20, requestPool.getMaximumPoolSize());
+        assertEquals(8, requestPool.getMinimumIdle());
+        assertEquals(5000, requestPool.getLeakDetectionThreshold());
+        assertEquals(2, backgroundPool.getMaximumPoolSize());
+    }
+
+    @Test
+    @DisplayName("최대 크기만 줄이면 최소 유휴 수도 함께 줄어듦")
+    void resize_ShrinkClampsMinimumIdle() {
+        // when
+        connectionPoolService.resize("cmc-request", new PoolResizeRequest(3, null, null));
+
+        // then
+        assertEquals(3, requestPool.getMaximumPoolSize());
+        assertEquals(3, requestPool.getMinimumIdle());
+        assertEquals(20000, requestPool.getLeakDetectionThreshold());
+    }
+
+    @Test
+    @DisplayName("풀 크기 변경 실패 - 상한 초과")
+    void resize_OverLimit() {
+        // when & then
+        assertThrows(BadRequestException.class,
+                () -> connectionPoolService.resize("cmc-request", new PoolResizeRequest(51, null, null)));
+        assertEquals(10, requestPool.getMaximumPoolSize());
+    }
+
+    @Test
+    @DisplayName("풀 크기 변경 실패 - 최소 유휴 수가 최대 크기보다 큼")
+    void resize_MinimumIdleOverMaximum() {
+        // when & then
+        assertThrows(BadRequestException.class,
+                () -> connectionPoolService.resize("cmc-request", new PoolResizeRequest(4, 5, null)));
+        assertEquals(10, requestPool.getMaximumPoolSize());
+    }
+
+    @Test
+    @DisplayName("누수 감지 시간 변경 실패 - 2000ms 미만")
+    void resize_LeakDetectionTooShort() {
+        // when & then
+        assertThrows(BadRequestException.class,
+                () -> connectionPoolService.resize("cmc-request", new PoolResizeRequest(null, null, 500L)));
+        assertEquals(20000, requestPool.getLeakDetectionThreshold());
+    }
+
+    @Test
+    @DisplayName("누수 감지 끄기")
+    void resize_DisableLeakDetection() {
+        // when
+        connectionPoolService.resize("cmc-background", new PoolResizeRequest(null, null, 0L));
+
+        // then
+        assertEquals(0, backgroundPool.getLeakDetectionThreshold());
+    }
+
+    @Test
+    @DisplayName("풀 조회 실패 - 존재하지 않는 풀")
+    void getPool_NotFound() {
+        // when & then
+        assertThrows(NotFoundException.class, () -> connectionPoolService.getPool("unknown"));
+    }
+
+    private static HikariDataSource pool(String name, int maximumPoolSize, int minimumIdle, long leakDetectionThresholdMs) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(minimumIdle);
+        dataSource.setLeakDetectionThreshold(leakDetectionThresholdMs);
+        return dataSource;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.cmc.service;
+
+import com.example.cmc.dto.response.FeedItemResponse;
+import com.example.cmc.exception.BadRequestException;
+import com.example.cmc.repository.FeedRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedService 단위 테스트")
+class FeedServiceTest {
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    private FeedService feedService;
+    private CommentCreatedEvent event;
+
+    @BeforeEach
+    void setUp() {
+        feedService = new FeedService(feedRepository, 3, 2);
+        event = new CommentCreatedEvent(100L, 1L, "commenter@example.com", LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("댓글 작성 시 게시글 작성자와 북마크한 사용자에게 배치로 기록")
+    void onCommentCreated_FansOutToAuthorAndBookmarkers() {
+        // given
+        when(feedRepository.findPostAuthorEmail(1L)).thenReturn("author@example.com");
+        when(feedRepository.isHotPost(1L)).thenReturn(false);
+        when(feedRepository.countBookmarkersUpTo(1L, 3)).thenReturn(2);
+        when(feedRepository.findBookmarkerEmails(1L, "", 2))
+                .thenReturn(List.of("author@example.com", "a@example.com"));
+        when(feedRepository.findBookmarkerEmails(1L, "a@example.com", 2))
+                .thenReturn(List.of("commenter@example.com"));
+
+        // when
+        feedService.onCommentCreated(event);
+
+        // then
+        verify(feedRepository).insertEntries(eq(List.of("author@example.com")), eq(100L), eq(1L), any());
+        verify(feedRepository).insertEntries(eq(List.of("a@example.com")), eq(100L), eq(1L), any());
+        verify(feedRepository, times(2)).insertEntries(anyCollection(), eq(100L), eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("북마크가 임계값 이상이면 hot 게시글로 전환하고 복제하지 않음")
+    void onCommentCreated_PromotesHotPost() {
+        // given
+        when(feedRepository.findPostAuthorEmail(1L)).thenReturn("author@example.com");
+        when(feedRepository.isHotPost(1L)).thenReturn(false);
+        when(feedRepository.countBookmarkersUpTo(1L, 3)).thenReturn(3);
+
+        // when
+        feedService.onCommentCreated(event);
+
+        // then
+        verify(feedRepository).markHotPost(eq(1L), any(LocalDateTime.class));
+        verify(feedRepository, never()).findBookmarkerEmails(anyLong(), anyString(), anyInt());
+        verify(feedRepository, times(1)).insertEntries(anyCollection(), eq(100L), eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("피드 조회 - 복제된 피드와 hot 게시글 댓글을 병합")
+    void getFeed_MergesInboxAndHotPosts() {
+        // given
+        when(feedRepository.findInboxCommentIds("user@example.com", 50L, 3)).thenReturn(List.of(40L, 20L));
+        when(feedRepository.findHotPostCommentIds("user@example.com", 50L, 3)).thenReturn(List.of(30L, 20L, 10L));
+        when(feedRepository.findItems(List.of(40L, 30L))).thenReturn(List.of(
+                FeedItemResponse.builder().commentId(30L).build(),
+                FeedItemResponse.builder().commentId(40L).build()));
+
+        // when
+        var page = feedService.getFeed("user@example.com", "50", 2);
+
+        // then
+        assertEquals(List.of(40L, 30L), page.getItems().stream().map(FeedItemResponse::getCommentId).toList());
+        assertTrue(page.isHasNext());
+        assertEquals("30", page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("피드 조회 실패 - 잘못된 커서")
+    void getFeed_Fail_InvalidCursor() {
+        // when & then
+        assertThrows(BadRequestException.class, () -> feedService.getFeed("user@example.com", "abc", 20));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.cmc.service;
+
+import com.example.cmc.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LoginRateLimiter 단위 테스트")
+class LoginRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginRateLimiter = new LoginRateLimiter(meterRegistry, 60, 3, 6, 2);
+    }
+
+    @Test
+    @DisplayName("IP 버스트 허용 후 거절")
+    void checkIp_RejectsAfterBurst() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            loginRateLimiter.checkIp("10.0.0.1");
+        }
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> loginRateLimiter.checkIp("10.0.0.1"));
+
+        // then
+        assertTrue(exception.getRetryAfterSeconds() >= 1);
+        assertDoesNotThrow(() -> loginRateLimiter.checkIp("10.0.0.2"));
+        assertEquals(1.0, meterRegistry.get("auth.login.rate_limited").tag("scope", "ip").counter().count());
+    }
+
+    @Test
+    @DisplayName("이메일은 대소문자를 구분하지 않고 제한")
+    void checkEmail_CaseInsensitive() {
+        // when
+        loginRateLimiter.checkEmail("User@Example.com");
+        loginRateLimiter.checkEmail("user@example.com");
+
+        // then
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> loginRateLimiter.checkEmail("USER@example.com"));
+        assertEquals(10, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("auth.login.rate_limited").tag("scope", "email").counter().count());
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 다시 허용")
+    void limit_RefillsOverTime() {
+        // given
+        LoginRateLimiter.Limit limit = new LoginRateLimiter.Limit(60, 1);
+        long now = 0;
+
+        // when & then
+        assertEquals(0, limit.tryAcquire("key", now));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), limit.tryAcquire("key", now));
+        assertEquals(0, limit.tryAcquire("key", now + TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷만 정리")
+    void evictIdle_RemovesFullBuckets() {
+        // given
+        LoginRateLimiter.Limit limit = new LoginRateLimiter.Limit(60, 1);
+        limit.tryAcquire("idle", 0);
+        limit.tryAcquire("active", TimeUnit.SECONDS.toNanos(2));
+
+        // when
+        limit.evictIdle(TimeUnit.SECONDS.toNanos(2));
+
+        // then
+        assertEquals(1, limit.size());
+    }
+}
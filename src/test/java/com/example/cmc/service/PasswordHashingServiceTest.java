@@ -0,0 +1,102 @@
+package com.example.cmc.service;
+
+import com.example.cmc.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PasswordHashingService 단위 테스트")
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService passwordHashingService;
+    private ExecutorService callers;
+
+    @AfterEach
+    void tearDown() {
+        if (passwordHashingService != null) {
+            passwordHashingService.shutdown();
+        }
+        if (callers != null) {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("해싱 및 검증 성공")
+    void encodeAndMatches_Success() {
+        // given
+        passwordHashingService = new PasswordHashingService(new BCryptPasswordEncoder(4), 2, 4, 5000);
+
+        // when
+        String encoded = passwordHashingService.encode("password123");
+
+        // then
+        assertTrue(passwordHashingService.matches("password123", encoded));
+        assertFalse(passwordHashingService.matches("wrong", encoded));
+    }
+
+    @Test
+    @DisplayName("설정보다 낮은 cost 해시는 재해싱 대상")
+    void needsRehash_WeakerCost() {
+        // given
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+        passwordHashingService = new PasswordHashingService(new BCryptPasswordEncoder(5), 1, 1, 5000);
+
+        // when & then
+        assertTrue(passwordHashingService.needsRehash(weakHash));
+        assertFalse(passwordHashingService.needsRehash(passwordHashingService.encode("password123")));
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 가득 차면 즉시 거절")
+    void matches_Fail_Saturated() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BCryptPasswordEncoder slowEncoder = mock(BCryptPasswordEncoder.class);
+        when(slowEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        passwordHashingService = new PasswordHashingService(slowEncoder, 1, 1, 5000);
+        callers = Executors.newFixedThreadPool(2);
+
+        // when
+        callers.submit(() -> passwordHashingService.matches("a", "hash"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> passwordHashingService.matches("b", "hash"));
+        while (passwordHashingService.getQueuedCount() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // then
+        assertThrows(ServiceUnavailableException.class, () -> passwordHashingService.matches("c", "hash"));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 초과되면 거절")
+    void matches_Fail_Timeout() {
+        // given
+        BCryptPasswordEncoder slowEncoder = mock(BCryptPasswordEncoder.class);
+        when(slowEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return true;
+        });
+        passwordHashingService = new PasswordHashingService(slowEncoder, 1, 1, 50);
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> passwordHashingService.matches("a", "hash"));
+    }
+}
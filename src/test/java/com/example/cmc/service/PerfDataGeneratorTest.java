@@ -0,0 +1,148 @@
+package com.example.cmc.service;
+
+import com.example.cmc.repository.PerfDataRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PerfDataGenerator 단위 테스트")
+class PerfDataGeneratorTest {
+
+    @Mock
+    private PerfDataRepository perfDataRepository;
+
+    @Test
+    @DisplayName("같은 seed 면 같은 행을 같은 순서로 생성")
+    void generate_SameSeedProducesSameRows() throws Exception {
+        // given
+        List<List<Object>> first = capture(42);
+        List<List<Object>> second = capture(42);
+        List<List<Object>> other = capture(7);
+
+        // then
+        assertFalse(first.isEmpty());
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    @DisplayName("답글은 같은 게시글의 앞선 댓글을 부모로 가지고 경로와 깊이가 부모에서 이어짐")
+    void generate_RepliesReferenceEarlierCommentsOfSamePost() throws Exception {
+        // given
+        List<List<Object>> rows = capture(42);
+
+        // when
+        Map<Long, List<Object>> comments = new HashMap<>();
+        int replies = 0;
+        for (List<Object> row : rows) {
+            if (!"comments".equals(row.get(0))) {
+                continue;
+            }
+            // [table, id, content, author_email, post_id, parent_id, created_at, updated_at, version, path, depth]
+            Long parentId = (Long) row.get(5);
+            if (parentId != null) {
+                List<Object> parent = comments.get(parentId);
+                assertNotNull(parent, "부모 댓글이 먼저 생성되어야 합니다.");
+                assertEquals(parent.get(4), row.get(4));
+                assertEquals(CommentPath.child((String) parent.get(9), (Long) row.get(1)), row.get(9));
+                assertEquals((Integer) parent.get(10) + 1, row.get(10));
+                assertTrue((Integer) row.get(10) <= 3);
+                replies++;
+            }
+            comments.put((Long) row.get(1), row);
+        }
+
+        // then
+        assertTrue(replies > 0);
+    }
+
+    @Test
+    @DisplayName("사용자별 북마크는 중복 없이 존재하는 게시글만 대상")
+    void generate_BookmarksAreUniquePerUser() throws Exception {
+        // given
+        List<List<Object>> rows = capture(42);
+
+        // when
+        Set<String> keys = new HashSet<>();
+        for (List<Object> row : rows) {
+            if ("bookmarks".equals(row.get(0))) {
+                long postId = (Long) row.get(2);
+                assertTrue(postId >= 1 && postId <= 50);
+                assertTrue(keys.add(row.get(1) + ":" + postId));
+            }
+        }
+
+        // then
+        assertFalse(keys.isEmpty());
+    }
+
+    @Test
+    @DisplayName("게시글이 이미 있는 DB 에는 생성하지 않음")
+    void generate_RefusesNonEmptyDatabase() throws Exception {
+        // given
+        when(perfDataRepository.count("SELECT COUNT(*) FROM posts")).thenReturn(1L);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> generator(42).generate());
+        verify(perfDataRepository, never()).openConnection();
+    }
+
+    // 한 문장에 3행씩 묶도록 해서 여러 행 INSERT 와 남은 행 처리 경로를 모두 거치게 한다.
+    private PerfDataGenerator generator(long seed) {
+        return new PerfDataGenerator(perfDataRepository, seed, 10, 4, 50, 4, 5, 3,
+                LocalDateTime.of(2025, 1, 1, 0, 0), 30, 3, 2);
+    }
+
+    // 실행된 INSERT 의 바인딩 값을 [테이블, 컬럼 값...] 행 목록으로 모은다.
+    private List<List<Object>> capture(long seed) throws Exception {
+        List<List<Object>> rows = new ArrayList<>();
+        Connection connection = mock(Connection.class);
+        when(perfDataRepository.openConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            String table = sql.substring("INSERT INTO ".length(), sql.indexOf(' ', "INSERT INTO ".length()));
+            int columns = sql.substring(sql.indexOf('(') + 1, sql.indexOf(')')).split(",").length;
+            List<Object> values = new ArrayList<>();
+            PreparedStatement statement = mock(PreparedStatement.class);
+            doAnswer(set -> {
+                values.add(set.getArgument(1));
+                return null;
+            }).when(statement).setObject(anyInt(), any());
+            doAnswer(add -> {
+                for (int i = 0; i < values.size(); i += columns) {
+                    List<Object> row = new ArrayList<>();
+                    row.add(table);
+                    row.addAll(values.subList(i, i + columns));
+                    rows.add(row);
+                }
+                values.clear();
+                return null;
+            }).when(statement).addBatch();
+            // 남은 행은 executeUpdate 로, 꽉 찬 문장은 addBatch 로 나가므로 문장마다 둘 중 하나만 쓰인다.
+            lenient().when(statement.executeUpdate()).thenAnswer(update -> {
+                statement.addBatch();
+                return 1;
+            });
+            return statement;
+        });
+        generator(seed).generate();
+        return rows;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.cmc.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostCategoryIndex 단위 테스트")
+class PostCategoryIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PostCategoryIndex postCategoryIndex;
+
+    @BeforeEach
+    void setUp() {
+        postCategoryIndex = new PostCategoryIndex(jdbcTemplate, 100, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("카테고리 Jaccard 유사도 순으로 연관 게시글 반환")
+    void findRelated_OrdersByJaccard() {
+        // given
+        postCategoryIndex.put(1L, List.of(10L, 20L));
+        postCategoryIndex.put(2L, List.of(10L, 20L));
+        postCategoryIndex.put(3L, List.of(10L));
+        postCategoryIndex.put(4L, List.of(10L, 20L, 30L, 40L));
+        postCategoryIndex.put(5L, List.of(30L));
+
+        // when
+        List<PostCategoryIndex.RelatedPost> related = postCategoryIndex.findRelated(1L, 10);
+
+        // then
+        assertEquals(List.of(2L, 4L, 3L), related.stream().map(PostCategoryIndex.RelatedPost::postId).toList());
+        assertEquals(1.0, related.get(0).similarity());
+        assertEquals(0.5, related.get(1).similarity());
+        assertEquals(0.5, related.get(2).similarity());
+    }
+
+    @Test
+    @DisplayName("limit 만큼만 반환")
+    void findRelated_Limit() {
+        // given
+        postCategoryIndex.put(1L, List.of(10L));
+        postCategoryIndex.put(2L, List.of(10L));
+        postCategoryIndex.put(3L, List.of(10L));
+
+        // when & then
+        assertEquals(1, postCategoryIndex.findRelated(1L, 1).size());
+        assertTrue(postCategoryIndex.findRelated(1L, 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("후보는 카테고리별 최신 게시글부터 제한된 수만 검사")
+    void findRelated_BoundedCandidates() {
+        // given
+        PostCategoryIndex bounded = new PostCategoryIndex(jdbcTemplate, 2, 1000);
+        for (long postId = 1; postId <= 10; postId++) {
+            bounded.put(postId, List.of(10L));
+        }
+
+        // when
+        List<PostCategoryIndex.RelatedPost> related = bounded.findRelated(1L, 10);
+
+        // then
+        assertEquals(List.of(10L, 9L), related.stream().map(PostCategoryIndex.RelatedPost::postId).toList());
+    }
+
+    @Test
+    @DisplayName("ANY 는 합집합, ALL 은 교집합을 최신순으로 반환")
+    void findPostIds_AnyAndAll() {
+        // given
+        postCategoryIndex.put(1L, List.of(10L));
+        postCategoryIndex.put(2L, List.of(10L, 20L));
+        postCategoryIndex.put(3L, List.of(20L));
+        postCategoryIndex.put(4L, List.of(10L, 20L, 30L));
+
+        // when & then
+        assertEquals(List.of(4L, 3L, 2L, 1L),
+                postCategoryIndex.findPostIds(List.of(10L, 20L), PostCategoryIndex.MatchMode.ANY, Long.MAX_VALUE, 10));
+        assertEquals(List.of(4L, 2L),
+                postCategoryIndex.findPostIds(List.of(10L, 20L), PostCategoryIndex.MatchMode.ALL, Long.MAX_VALUE, 10));
+        assertEquals(List.of(4L, 2L, 1L),
+                postCategoryIndex.findPostIds(List.of(10L, 99L), PostCategoryIndex.MatchMode.ANY, Long.MAX_VALUE, 10));
+        assertTrue(postCategoryIndex.findPostIds(List.of(10L, 99L), PostCategoryIndex.MatchMode.ALL, Long.MAX_VALUE, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("beforeId 미만에서 limit 개까지 반환")
+    void findPostIds_CursorAndLimit() {
+        // given
+        for (long postId = 1; postId <= 6; postId++) {
+            postCategoryIndex.put(postId, postId % 2 == 0 ? List.of(10L, 20L) : List.of(10L));
+        }
+
+        // when & then
+        assertEquals(List.of(6L, 5L),
+                postCategoryIndex.findPostIds(List.of(10L), PostCategoryIndex.MatchMode.ANY, Long.MAX_VALUE, 2));
+        assertEquals(List.of(4L, 3L),
+                postCategoryIndex.findPostIds(List.of(10L), PostCategoryIndex.MatchMode.ANY, 5L, 2));
+        assertEquals(List.of(4L, 2L),
+                postCategoryIndex.findPostIds(List.of(10L, 20L), PostCategoryIndex.MatchMode.ALL, 6L, 10));
+        assertTrue(postCategoryIndex.findPostIds(List.of(10L), PostCategoryIndex.MatchMode.ANY, 1L, 10).isEmpty());
+        assertTrue(postCategoryIndex.findPostIds(List.of(10L), PostCategoryIndex.MatchMode.ANY, Long.MAX_VALUE, 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("카테고리 변경과 삭제 반영")
+    void putAndRemove() {
+        // given
+        postCategoryIndex.put(1L, List.of(10L));
+        postCategoryIndex.put(2L, List.of(10L));
+
+        // when
+        postCategoryIndex.put(2L, List.of(20L));
+
+        // then
+        assertTrue(postCategoryIndex.findRelated(1L, 10).isEmpty());
+
+        // when
+        postCategoryIndex.put(2L, List.of(10L));
+        postCategoryIndex.remove(1L);
+
+        // then
+        assertTrue(postCategoryIndex.findRelated(1L, 10).isEmpty());
+        assertTrue(postCategoryIndex.findRelated(2L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 색인 변경은 커밋된 뒤에만 반영")
+    void put_AppliedAfterCommit() {
+        // given
+        postCategoryIndex.put(1L, List.of(10L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        postCategoryIndex.put(2L, List.of(10L));
+        postCategoryIndex.remove(1L);
+        List<Long> beforeCommit = postCategoryIndex.findPostIds(List.of(10L), PostCategoryIndex.MatchMode.ANY, Long.MAX_VALUE, 10);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertEquals(List.of(1L), beforeCommit);
+        assertEquals(List.of(2L), postCategoryIndex.findPostIds(List.of(10L), PostCategoryIndex.MatchMode.ANY, Long.MAX_VALUE, 10));
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 색인 변경은 버림")
+    void put_DiscardedOnRollback() {
+        // given
+        postCategoryIndex.put(1L, List.of(10L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        postCategoryIndex.put(2L, List.of(10L));
+        postCategoryIndex.remove(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertEquals(List.of(1L), postCategoryIndex.findPostIds(List.of(10L), PostCategoryIndex.MatchMode.ANY, Long.MAX_VALUE, 10));
+        assertTrue(postCategoryIndex.findRelated(2L, 10).isEmpty());
+    }
+}
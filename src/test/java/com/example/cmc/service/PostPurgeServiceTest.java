@@ -0,0 +1,73 @@
+package com.example.cmc.service;
+
+import com.example.cmc.repository.PostPurgeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostPurgeService 단위 테스트")
+class PostPurgeServiceTest {
+
+    @Mock
+    private PostPurgeRepository postPurgeRepository;
+
+    @Mock
+    private TableRowCounter tableRowCounter;
+
+    private PostPurgeService postPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        postPurgeService = new PostPurgeService(postPurgeRepository, tableRowCounter, 2, 10);
+    }
+
+    @Test
+    @DisplayName("자식 행을 배치 단위로 모두 지운 뒤 게시글을 삭제")
+    void purgePost_DeletesChildrenInBatchesThenPost() {
+        // given
+        when(postPurgeRepository.deleteComments(1L, 2)).thenReturn(2, 2, 1);
+        when(postPurgeRepository.deleteBookmarks(1L, 2)).thenReturn(0);
+
+        // when
+        postPurgeService.purgePost(1L);
+
+        // then
+        InOrder inOrder = inOrder(postPurgeRepository);
+        inOrder.verify(postPurgeRepository, times(3)).deleteComments(1L, 2);
+        inOrder.verify(postPurgeRepository).deleteBookmarks(1L, 2);
+        inOrder.verify(postPurgeRepository).deletePostCategories(1L);
+        inOrder.verify(postPurgeRepository).deletePost(1L);
+        verify(tableRowCounter, times(2)).add(TableRowCounter.Table.COMMENTS, -2);
+        verify(tableRowCounter).add(TableRowCounter.Table.COMMENTS, -1);
+    }
+
+    @Test
+    @DisplayName("한 게시글 정리가 실패해도 나머지 게시글은 계속 정리")
+    void purgeDeletedPosts_ContinuesAfterFailure() {
+        // given
+        when(postPurgeRepository.findDeletedPostIds(10)).thenReturn(List.of(1L, 2L));
+        when(postPurgeRepository.deleteComments(eq(1L), anyInt())).thenReturn(0);
+        when(postPurgeRepository.deleteComments(eq(2L), anyInt())).thenReturn(0);
+        when(postPurgeRepository.deleteBookmarks(anyLong(), anyInt())).thenReturn(0);
+        when(postPurgeRepository.deletePost(1L)).thenThrow(new DataIntegrityViolationException("fk"));
+
+        // when
+        postPurgeService.purgeDeletedPosts();
+
+        // then
+        verify(postPurgeRepository).deletePost(1L);
+        verify(postPurgeRepository).deletePost(2L);
+    }
+}
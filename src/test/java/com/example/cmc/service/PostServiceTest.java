@@ -5,10 +5,14 @@ import com.example.cmc.dto.request.PostUpdateRequest;
 import com.example.cmc.entity.Category;
 import com.example.cmc.entity.Post;
 import com.example.cmc.entity.PostCategory;
+import com.example.cmc.exception.BadRequestException;
+import com.example.cmc.exception.ConflictException;
 import com.example.cmc.exception.NotFoundException;
 import com.example.cmc.repository.CategoryRepository;
 import com.example.cmc.repository.PostCategoryRepository;
 import com.example.cmc.repository.PostRepository;
+import com.example.cmc.repository.ResourceVersion;
+import com.example.cmc.repository.UserRespository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -25,6 +30,9 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +48,21 @@ class PostServiceTest {
     @Mock
     private PostCategoryRepository postCategoryRepository;
 
+    @Mock
+    private UserRespository userRespository;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private PostCategoryIndex postCategoryIndex;
+
+    @Mock
+    private ViewCountService viewCountService;
+
+    @Mock
+    private TableRowCounter tableRowCounter;
+
     @InjectMocks
     private PostService postService;
 
@@ -87,6 +110,7 @@ class PostServiceTest {
         assertEquals("테스트 내용", response.getContent());
         verify(postRepository, times(1)).save(any(Post.class));
         verify(postCategoryRepository, times(1)).saveAll(anyList());
+        verify(postCategoryIndex, times(1)).put(1L, Arrays.asList(1L, 2L));
     }
 
     @Test
@@ -122,6 +146,22 @@ class PostServiceTest {
         verify(postRepository, times(1)).findById(1L);
     }
 
+    @Test
+    @DisplayName("게시글 조회수는 DB 값과 아직 반영하지 않은 값을 합친다")
+    void getPostById_MergesPendingViews() {
+        // given
+        testPost.setViewCount(10L);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+        when(postCategoryRepository.findByPostId(1L)).thenReturn(List.of());
+        when(viewCountService.getPendingCount(1L)).thenReturn(3L);
+
+        // when
+        var response = postService.getPostById(1L);
+
+        // then
+        assertEquals(13L, response.getViewCount());
+    }
+
     @Test
     @DisplayName("게시글 ID로 조회 실패 - 존재하지 않음")
     void getPostById_Fail_NotFound() {
@@ -177,8 +217,9 @@ class PostServiceTest {
     @DisplayName("게시글 수정 성공")
     void updatePost_Success() {
         // given
+        when(postRepository.updateIfVersionMatches(eq(1L), isNull(), eq("수정된 제목"), eq("수정된 내용"), any(LocalDateTime.class)))
+                .thenReturn(1);
         when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
-        when(postRepository.save(any(Post.class))).thenReturn(testPost);
         doNothing().when(postCategoryRepository).deleteByPostId(1L);
         when(postCategoryRepository.saveAll(anyList())).thenReturn(List.of());
         when(postCategoryRepository.findByPostId(1L)).thenReturn(List.of());
@@ -187,49 +228,198 @@ class PostServiceTest {
         var response = postService.updatePost(1L, updateRequest);
 
         // then
-        assertNotNull(response);
-        verify(postRepository, times(1)).findById(1L);
-        verify(postRepository, times(1)).save(any(Post.class));
+        // 수정한 필드뿐 아니라 작성자, 작성 시각 등 전체 표현을 응답한다.
+        assertEquals("test@example.com", response.getAuthorEmail());
+        assertNotNull(response.getCreatedAt());
+        verify(postRepository, never()).save(any(Post.class));
         verify(postCategoryRepository, times(1)).deleteByPostId(1L);
         verify(postCategoryRepository, times(1)).saveAll(anyList());
+        verify(trendingService, times(1)).updateCategories(1L, List.of(3L));
+        verify(postCategoryIndex, times(1)).put(1L, List.of(3L));
     }
 
     @Test
     @DisplayName("게시글 수정 실패 - 존재하지 않음")
     void updatePost_Fail_NotFound() {
         // given
-        when(postRepository.findById(1L)).thenReturn(Optional.empty());
+        when(postRepository.updateIfVersionMatches(eq(1L), isNull(), anyString(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(postRepository.findCurrentVersionById(1L)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(NotFoundException.class, () -> postService.updatePost(1L, updateRequest));
-        verify(postRepository, times(1)).findById(1L);
-        verify(postRepository, never()).save(any(Post.class));
+        verify(postCategoryRepository, never()).deleteByPostId(anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글 수정 실패 - 버전 충돌")
+    void updatePost_Fail_VersionConflict() {
+        // given
+        when(postRepository.updateIfVersionMatches(eq(1L), eq(2L), anyString(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(postRepository.findCurrentVersionById(1L)).thenReturn(Optional.of(3L));
+
+        // when
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> postService.updatePost(1L, updateRequest, 2L));
+
+        // then
+        assertEquals(3L, exception.getCurrentVersion());
+        verify(postCategoryRepository, never()).deleteByPostId(anyLong());
+        verify(postCategoryIndex, never()).put(anyLong(), anyList());
     }
 
     @Test
     @DisplayName("게시글 삭제 성공")
     void deletePost_Success() {
         // given
-        when(postRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(postRepository).deleteById(1L);
+        when(postRepository.softDeleteById(eq(1L), any(LocalDateTime.class))).thenReturn(1);
 
         // when
         postService.deletePost(1L);
 
         // then
-        verify(postRepository, times(1)).existsById(1L);
-        verify(postRepository, times(1)).deleteById(1L);
+        verify(postRepository, times(1)).softDeleteById(eq(1L), any(LocalDateTime.class));
+        verify(postRepository, never()).deleteById(anyLong());
+        verify(trendingService, times(1)).removePost(1L);
+        verify(postCategoryIndex, times(1)).remove(1L);
     }
 
     @Test
     @DisplayName("게시글 삭제 실패 - 존재하지 않음")
     void deletePost_Fail_NotFound() {
         // given
-        when(postRepository.existsById(1L)).thenReturn(false);
+        when(postRepository.softDeleteById(eq(1L), any(LocalDateTime.class))).thenReturn(0);
 
         // when & then
         assertThrows(NotFoundException.class, () -> postService.deletePost(1L));
-        verify(postRepository, times(1)).existsById(1L);
-        verify(postRepository, never()).deleteById(anyLong());
+        verify(trendingService, never()).removePost(anyLong());
+        verify(postCategoryIndex, never()).remove(anyLong());
+    }
+
+    @Test
+    @DisplayName("연관 게시글 조회 성공 - 색인 순서 유지, 삭제된 게시글 제외")
+    void getRelatedPosts_Success() {
+        // given
+        Post related = Post.builder().id(2L).title("연관 제목").authorEmail("other@example.com").build();
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(postCategoryIndex.findRelated(1L, 5)).thenReturn(List.of(
+                new PostCategoryIndex.RelatedPost(3L, 1.0),
+                new PostCategoryIndex.RelatedPost(2L, 0.5)));
+        when(postRepository.findAllById(List.of(3L, 2L))).thenReturn(List.of(related));
+
+        // when
+        var response = postService.getRelatedPosts(1L, 5);
+
+        // then
+        assertEquals(1, response.size());
+        assertEquals(2L, response.get(0).getId());
+        assertEquals("연관 제목", response.get(0).getTitle());
+        assertEquals(0.5, response.get(0).getSimilarity());
+    }
+
+    @Test
+    @DisplayName("연관 게시글 조회 실패 - 존재하지 않음")
+    void getRelatedPosts_Fail_NotFound() {
+        // given
+        when(postRepository.existsById(1L)).thenReturn(false);
+
+        // when & then
+        assertThrows(NotFoundException.class, () -> postService.getRelatedPosts(1L, 5));
+        verify(postCategoryIndex, never()).findRelated(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("피드 조회 - 카테고리 조건이 없으면 id 내림차순으로 size 만큼 자르고 다음 커서 반환")
+    void getPostFeed_WithoutCategories() {
+        // given
+        when(postRepository.findByIdLessThanOrderByIdDesc(10L, Limit.of(3))).thenReturn(List.of(
+                Post.builder().id(9L).build(),
+                Post.builder().id(8L).build(),
+                Post.builder().id(7L).build()));
+        when(postCategoryRepository.findByPostId(anyLong())).thenReturn(List.of());
+
+        // when
+        var page = postService.getPostFeed(null, null, "10", 2);
+
+        // then
+        assertEquals(List.of(9L, 8L), page.getItems().stream().map(item -> item.getId()).toList());
+        assertTrue(page.isHasNext());
+        assertEquals("8", page.getNextCursor());
+        verify(postCategoryIndex, never()).findPostIds(any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("피드 조회 - 색인 결과로 다음 페이지를 판단하고 조회되지 않은 게시글은 건너뜀")
+    void getPostFeed_ByCategories_UsesIndexForHasNext() {
+        // given
+        when(postCategoryIndex.findPostIds(List.of(1L, 2L), PostCategoryIndex.MatchMode.ALL, Long.MAX_VALUE, 3))
+                .thenReturn(List.of(5L, 4L, 3L));
+        when(postRepository.findAllById(List.of(5L, 4L))).thenReturn(List.of(Post.builder().id(5L).build()));
+        when(postCategoryRepository.findByPostId(5L)).thenReturn(List.of());
+
+        // when
+        var page = postService.getPostFeed(List.of(1L, 2L), "all", null, 2);
+
+        // then
+        assertEquals(List.of(5L), page.getItems().stream().map(item -> item.getId()).toList());
+        assertTrue(page.isHasNext());
+        assertEquals("4", page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("피드 조회 - 마지막 페이지는 다음 커서 없음")
+    void getPostFeed_ByCategories_LastPage() {
+        // given
+        when(postCategoryIndex.findPostIds(List.of(1L), PostCategoryIndex.MatchMode.ANY, 4L, 3))
+                .thenReturn(List.of(3L));
+        when(postRepository.findAllById(List.of(3L))).thenReturn(List.of(Post.builder().id(3L).build()));
+        when(postCategoryRepository.findByPostId(3L)).thenReturn(List.of());
+
+        // when
+        var page = postService.getPostFeed(List.of(1L), null, "4", 2);
+
+        // then
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("피드 조회 실패 - 잘못된 검색 모드와 커서")
+    void getPostFeed_Fail_InvalidModeOrCursor() {
+        // when & then
+        assertThrows(BadRequestException.class, () -> postService.getPostFeed(List.of(1L), "none", null, 10));
+        assertThrows(BadRequestException.class, () -> postService.getPostFeed(null, null, "abc", 10));
+    }
+
+    @Test
+    @DisplayName("게시글 버전 조회 - 카테고리 수정 시각이 더 최근이면 반영")
+    void getPostVersion_IncludesCategoryChanges() {
+        // given
+        LocalDateTime postUpdatedAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime categoryUpdatedAt = postUpdatedAt.plusMinutes(1);
+        ResourceVersion postVersion = new ResourceVersion(1L, postUpdatedAt, 1L, 0L, 3L);
+        when(postRepository.findVersionById(1L)).thenReturn(Optional.of(postVersion));
+        when(categoryRepository.findVersion()).thenReturn(new ResourceVersion(5L, categoryUpdatedAt, 5L));
+
+        // when
+        ResourceVersion version = postService.getPostVersion(1L);
+
+        // then
+        assertEquals(categoryUpdatedAt, version.lastModified());
+        assertNotEquals(postVersion.eTag(), version.eTag());
+        // PUT 의 If-Match 로 보낼 수 있도록 ETag 는 게시글 version 으로 시작한다.
+        assertTrue(version.eTag().startsWith("W/\"3-"));
+    }
+
+    @Test
+    @DisplayName("게시글 버전 조회 실패 - 존재하지 않음")
+    void getPostVersion_Fail_NotFound() {
+        // given
+        when(postRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(NotFoundException.class, () -> postService.getPostVersion(1L));
     }
 }
@@ -0,0 +1,134 @@
+package com.example.cmc.service;
+
+import com.example.cmc.dto.response.EndpointStatsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequestStatsService 단위 테스트")
+class RequestStatsServiceTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long MILLI = 1_000_000L;
+
+    private RequestStatsService requestStatsService;
+    private HandlerMethod getPost;
+    private HandlerMethod createPost;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        requestStatsService = new RequestStatsService();
+        StubController controller = new StubController();
+        getPost = new HandlerMethod(controller, StubController.class.getMethod("getPost"));
+        createPost = new HandlerMethod(controller, StubController.class.getMethod("createPost"));
+    }
+
+    @Test
+    @DisplayName("최근 1분 동안의 처리량, 평균/최대 처리 시간, 오류 수를 메서드별로 집계")
+    void getEndpointStats() {
+        // given
+        long now = 1000 * SECOND;
+        for (int i = 0; i < 120; i++) {
+            record(getPost, now - 30 * SECOND, 10 * MILLI, false);
+        }
+        record(createPost, now - 2 * SECOND, 40 * MILLI, false);
+        record(createPost, now - SECOND, 80 * MILLI, true);
+
+        // when
+        List<EndpointStatsResponse> stats = requestStatsService.getEndpointStats(now);
+
+        // then
+        assertEquals(List.of("StubController.getPost", "StubController.createPost"),
+                stats.stream().map(EndpointStatsResponse::getEndpoint).toList());
+        EndpointStatsResponse get = stats.get(0);
+        assertEquals(120, get.getRequestCount());
+        assertEquals(2.0, get.getRequestsPerSecond());
+        assertEquals(10.0, get.getAverageMs(), 0.001);
+        EndpointStatsResponse create = stats.get(1);
+        assertEquals(60.0, create.getAverageMs(), 0.001);
+        assertEquals(80.0, create.getMaxMs(), 0.001);
+        assertEquals(1, create.getErrorCount());
+    }
+
+    @Test
+    @DisplayName("1분이 지난 기록과 진행 중인 초의 기록은 집계에서 제외")
+    void getEndpointStats_ExcludesExpiredAndCurrentSecond() {
+        // given
+        long now = 1000 * SECOND;
+        record(getPost, now - 61 * SECOND, 10 * MILLI, false);
+        record(getPost, now + SECOND / 2, 10 * MILLI, false);
+
+        // when
+        List<EndpointStatsResponse> stats = requestStatsService.getEndpointStats(now + SECOND / 2);
+
+        // then
+        assertTrue(stats.isEmpty());
+    }
+
+    @Test
+    @DisplayName("같은 칸을 다시 쓰면 이전 바퀴의 값은 지워짐")
+    void record_ReusesSlotAfterWindow() {
+        // given
+        long now = 1000 * SECOND;
+        record(getPost, now - 62 * SECOND, 500 * MILLI, true);
+        record(getPost, now - SECOND, 10 * MILLI, false);
+
+        // when
+        EndpointStatsResponse stats = requestStatsService.getEndpointStats(now).get(0);
+
+        // then
+        assertEquals(1, stats.getRequestCount());
+        assertEquals(0, stats.getErrorCount());
+        assertEquals(10.0, stats.getMaxMs(), 0.001);
+    }
+
+    @Test
+    @DisplayName("System.nanoTime()이 음수인 구간의 기록도 집계")
+    void getEndpointStats_NegativeNanoTime() {
+        // given
+        long now = -1000 * SECOND;
+        record(getPost, now - 2 * SECOND, 10 * MILLI, false);
+        record(getPost, now - SECOND, 30 * MILLI, true);
+
+        // when
+        EndpointStatsResponse stats = requestStatsService.getEndpointStats(now).get(0);
+
+        // then
+        assertEquals(2, stats.getRequestCount());
+        assertEquals(1, stats.getErrorCount());
+        assertEquals(30.0, stats.getMaxMs(), 0.001);
+    }
+
+    @Test
+    @DisplayName("애플리케이션 밖의 핸들러는 기록하지 않음")
+    void record_IgnoresFrameworkHandlers() throws Exception {
+        // given
+        long now = 1000 * SECOND;
+        HandlerMethod external = new HandlerMethod(Map.of(), Map.class.getMethod("size"));
+        record(external, now - SECOND, 10 * MILLI, false);
+
+        // when
+        List<EndpointStatsResponse> stats = requestStatsService.getEndpointStats(now);
+
+        // then
+        assertTrue(stats.isEmpty());
+    }
+
+    private void record(HandlerMethod handler, long endNanos, long durationNanos, boolean error) {
+        requestStatsService.record(handler, endNanos - durationNanos, endNanos, error);
+    }
+
+    public static class StubController {
+        public void getPost() {
+        }
+
+        public void createPost() {
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.cmc.service;
+
+import com.example.cmc.dto.response.CategoryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SerializedResponseCache 단위 테스트")
+class SerializedResponseCacheTest {
+
+    private SerializedResponseCache serializedResponseCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        serializedResponseCache = new SerializedResponseCache(new JsonMapper(), new SimpleMeterRegistry(), 4096, 64);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 버전이면 다시 직렬화하지 않고, 버전이 바뀌면 새로 만든다")
+    void get_ReusesEntryUntilVersionChanges() {
+        // when
+        SerializedResponseCache.Entry first = serializedResponseCache.get("categories", "W/\"1\"", this::categories);
+        SerializedResponseCache.Entry second = serializedResponseCache.get("categories", "W/\"1\"", this::categories);
+        SerializedResponseCache.Entry third = serializedResponseCache.get("categories", "W/\"2\"", this::categories);
+
+        // then
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("gzip 을 받는 클라이언트에는 미리 압축한 본문을 보낸다")
+    void toResponse_Gzip() throws Exception {
+        // given
+        SerializedResponseCache.Entry entry = serializedResponseCache.get("categories", "W/\"1\"", this::categories);
+
+        // when
+        ResponseEntity<byte[]> gzipped = serializedResponseCache.toResponse(entry, "br, gzip;q=0.8");
+        ResponseEntity<byte[]> plain = serializedResponseCache.toResponse(entry, "gzip;q=0");
+
+        // then
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertArrayEquals(entry.json(), in.readAllBytes());
+        }
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(entry.json(), plain.getBody());
+    }
+
+    @Test
+    @DisplayName("전체 크기 상한을 넘으면 오래된 엔트리부터 제거")
+    void get_EvictsLeastRecentlyUsed() {
+        // given
+        for (int i = 0; i < 20; i++) {
+            serializedResponseCache.get("post:" + i, "W/\"1\"", this::categories);
+        }
+
+        // then
+        assertTrue(serializedResponseCache.getTotalBytes() <= 4096);
+        int before = loads.get();
+        serializedResponseCache.get("post:0", "W/\"1\"", this::categories);
+        assertEquals(before + 1, loads.get());
+    }
+
+    private List<CategoryResponse> categories() {
+        loads.incrementAndGet();
+        return List.of(
+                CategoryResponse.builder().id(1L).name("공지사항").build(),
+                CategoryResponse.builder().id(2L).name("자유게시판").build(),
+                CategoryResponse.builder().id(3L).name("질문과 답변").build());
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.cmc.service;
+
+import com.example.cmc.repository.TableRowCountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TableRowCounter 단위 테스트")
+class TableRowCounterTest {
+
+    @Mock
+    private TableRowCountRepository tableRowCountRepository;
+
+    private TableRowCounter tableRowCounter;
+
+    @BeforeEach
+    void setUp() {
+        tableRowCounter = new TableRowCounter(tableRowCountRepository);
+        when(tableRowCountRepository.countAll()).thenReturn(new TableRowCountRepository.RowCounts(3, 10, 20, 5, 2));
+        tableRowCounter.reconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("보정 값에서 쓰기 경로의 증감을 누적")
+    void add_WithoutTransaction() {
+        // when
+        tableRowCounter.add(TableRowCounter.Table.POSTS, 1);
+        tableRowCounter.add(TableRowCounter.Table.COMMENTS, -4);
+
+        // then
+        assertEquals(Map.of("users", 3L, "posts", 11L, "comments", 16L, "bookmarks", 5L, "categories", 2L),
+                tableRowCounter.getCounts());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 증감은 커밋된 뒤에만 반영")
+    void add_AppliedAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        tableRowCounter.add(TableRowCounter.Table.BOOKMARKS, 2);
+        long beforeCommit = tableRowCounter.getCounts().get("bookmarks");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertEquals(5L, beforeCommit);
+        assertEquals(7L, tableRowCounter.getCounts().get("bookmarks"));
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 증감은 버림")
+    void add_DiscardedOnRollback() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        tableRowCounter.add(TableRowCounter.Table.USERS, 1);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertEquals(3L, tableRowCounter.getCounts().get("users"));
+    }
+
+    @Test
+    @DisplayName("주기적인 보정은 누적된 오차를 COUNT(*) 결과로 덮어씀")
+    void reconcile_OverwritesDrift() {
+        // given
+        tableRowCounter.add(TableRowCounter.Table.CATEGORIES, 5);
+        when(tableRowCountRepository.countAll()).thenReturn(new TableRowCountRepository.RowCounts(3, 10, 20, 5, 4));
+
+        // when
+        tableRowCounter.reconcile();
+
+        // then
+        assertEquals(4L, tableRowCounter.getCounts().get("categories"));
+    }
+}
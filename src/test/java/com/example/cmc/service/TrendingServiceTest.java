@@ -0,0 +1,244 @@
+package com.example.cmc.service;
+
+import com.example.cmc.dto.response.TrendingPostResponse;
+import com.example.cmc.entity.PostCategory;
+import com.example.cmc.repository.PostCategoryRepository;
+import com.example.cmc.repository.TrendingScoreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrendingService 단위 테스트")
+class TrendingServiceTest {
+
+    @Mock
+    private PostCategoryRepository postCategoryRepository;
+
+    @Mock
+    private TrendingScoreRepository trendingScoreRepository;
+
+    private MutableClock clock;
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        trendingService = new TrendingService(postCategoryRepository, trendingScoreRepository, clock, 1, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("북마크가 댓글보다 높은 가중치로 랭킹")
+    void getTrending_OrdersByWeightedScore() {
+        // given
+        when(postCategoryRepository.findByPostId(anyLong())).thenReturn(List.of());
+
+        // when
+        trendingService.recordComment(1L);
+        trendingService.recordBookmark(2L);
+
+        // then
+        List<TrendingPostResponse> trending = trendingService.getTrending(null, 10);
+        assertEquals(List.of(2L, 1L), trending.stream().map(TrendingPostResponse::getPostId).toList());
+        assertEquals(TrendingService.BOOKMARK_WEIGHT, trending.get(0).getScore(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("점수는 반감기에 따라 감쇠하고 최근 이벤트가 앞선다")
+    void getTrending_DecaysOverTime() {
+        // given
+        when(postCategoryRepository.findByPostId(anyLong())).thenReturn(List.of());
+        trendingService.recordComment(1L);
+        trendingService.recordComment(1L);
+
+        // when
+        clock.advance(Duration.ofHours(2));
+        trendingService.recordComment(2L);
+        trendingService.recordComment(2L);
+
+        // then
+        List<TrendingPostResponse> trending = trendingService.getTrending(null, 10);
+        assertEquals(2L, trending.get(0).getPostId());
+        assertEquals(0.5, trending.get(1).getScore(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("카테고리별 top-K 유지")
+    void getTrending_ByCategoryKeepsTopK() {
+        // given
+        when(postCategoryRepository.findByPostId(anyLong())).thenAnswer(invocation -> List.of(
+                PostCategory.builder().postId(invocation.getArgument(0)).categoryId(10L).build()));
+
+        // when
+        trendingService.recordComment(1L);
+        trendingService.recordBookmark(2L);
+        trendingService.recordBookmark(3L);
+        trendingService.recordComment(3L);
+
+        // then
+        List<TrendingPostResponse> trending = trendingService.getTrending(10L, 10);
+        assertEquals(List.of(3L, 2L), trending.stream().map(TrendingPostResponse::getPostId).toList());
+        assertTrue(trendingService.getTrending(99L, 10).isEmpty());
+        verify(postCategoryRepository, times(3)).findByPostId(anyLong());
+    }
+
+    @Test
+    @DisplayName("카테고리 변경과 게시글 삭제 반영")
+    void updateCategoriesAndRemovePost() {
+        // given
+        when(postCategoryRepository.findByPostId(1L)).thenReturn(List.of(
+                PostCategory.builder().postId(1L).categoryId(10L).build()));
+        trendingService.recordComment(1L);
+
+        // when
+        trendingService.updateCategories(1L, List.of(20L));
+
+        // then
+        assertTrue(trendingService.getTrending(10L, 10).isEmpty());
+        assertEquals(1L, trendingService.getTrending(20L, 10).get(0).getPostId());
+
+        // when
+        trendingService.removePost(1L);
+
+        // then
+        assertTrue(trendingService.getTrending(null, 10).isEmpty());
+        assertTrue(trendingService.getTrending(20L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 점수와 삭제는 커밋된 뒤에만 반영")
+    void recordAndRemove_AppliedAfterCommit() {
+        // given
+        when(postCategoryRepository.findByPostId(1L)).thenReturn(List.of());
+        trendingService.recordBookmark(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        trendingService.recordComment(1L);
+        trendingService.removePost(1L);
+        double beforeCommit = trendingService.getTrending(null, 10).get(0).getScore();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertEquals(TrendingService.BOOKMARK_WEIGHT, beforeCommit, 1e-9);
+        assertTrue(trendingService.getTrending(null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 점수는 버림")
+    void record_DiscardedOnRollback() {
+        // given
+        when(postCategoryRepository.findByPostId(1L)).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        trendingService.recordComment(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertTrue(trendingService.getTrending(null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("스냅샷은 변경분만 기록하고 감쇠한 게시글은 정리")
+    @SuppressWarnings("unchecked")
+    void snapshot_WritesDirtyAndPrunesExpired() {
+        // given
+        when(postCategoryRepository.findByPostId(anyLong())).thenReturn(List.of());
+        trendingService.recordComment(1L);
+
+        // when
+        trendingService.snapshot();
+
+        // then
+        ArgumentCaptor<Map<Long, Double>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(trendingScoreRepository).upsertAll(captor.capture(), any(LocalDateTime.class));
+        assertEquals(1.0, captor.getValue().get(1L), 1e-9);
+
+        // when
+        clock.advance(Duration.ofHours(10));
+        trendingService.snapshot();
+
+        // then
+        verify(trendingScoreRepository, times(1)).upsertAll(anyMap(), any());
+        verify(trendingScoreRepository).deleteAll(anyCollection());
+        assertTrue(trendingService.getTrending(null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("재시작 시 스냅샷에서 감쇠를 반영해 복원")
+    void restore_AppliesDecaySinceSnapshot() {
+        // given
+        LocalDateTime oneHourAgo = LocalDateTime.ofInstant(clock.instant().minus(Duration.ofHours(1)), ZoneOffset.UTC);
+        when(trendingScoreRepository.findAll()).thenReturn(List.of(
+                new TrendingScoreRepository.ScoreRow(1L, 4.0, oneHourAgo)));
+        when(postCategoryRepository.findByPostIdIn(anyList())).thenReturn(List.of(
+                PostCategory.builder().postId(1L).categoryId(10L).build()));
+
+        // when
+        trendingService.restore();
+
+        // then
+        assertEquals(2.0, trendingService.getTrending(null, 10).get(0).getScore(), 1e-9);
+        assertEquals(1L, trendingService.getTrending(10L, 10).get(0).getPostId());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.cmc.service;
+
+import com.example.cmc.repository.ViewCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewCountService 단위 테스트")
+class ViewCountServiceTest {
+
+    @Mock
+    private ViewCountRepository viewCountRepository;
+
+    private ViewCountService viewCountService;
+
+    @BeforeEach
+    void setUp() {
+        viewCountService = new ViewCountService(viewCountRepository, 2);
+    }
+
+    @Test
+    @DisplayName("조회수를 모아 게시글 id 순 묶음으로 한 번에 반영")
+    @SuppressWarnings("unchecked")
+    void flush_WritesDeltasInBatches() {
+        // given
+        viewCountService.recordView(3L);
+        viewCountService.recordView(1L);
+        viewCountService.recordView(1L);
+        viewCountService.recordView(2L);
+
+        // when
+        viewCountService.flush();
+
+        // then
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(viewCountRepository, times(2)).addViewCounts(captor.capture());
+        List<Map<Long, Long>> batches = captor.getAllValues();
+        assertEquals(List.of(1L, 2L), List.copyOf(batches.get(0).keySet()));
+        assertEquals(2L, batches.get(0).get(1L));
+        assertEquals(Map.of(3L, 1L), batches.get(1));
+        assertEquals(0, viewCountService.getPendingCount(1L));
+    }
+
+    @Test
+    @DisplayName("반영 전 조회수는 대기 값으로 조회")
+    void getPendingCount_BeforeFlush() {
+        // given
+        viewCountService.recordView(1L);
+        viewCountService.recordView(1L);
+
+        // when
+        long pending = viewCountService.getPendingCount(1L);
+
+        // then
+        assertEquals(2L, pending);
+        assertEquals(0L, viewCountService.getPendingCount(2L));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 조회를 잃지 않고 센다")
+    void recordView_Concurrent() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    viewCountService.recordView(1L);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(80_000L, viewCountService.getPendingCount(1L));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 되돌려 다음 주기에 다시 반영")
+    void flush_RestoresDeltasOnFailure() {
+        // given
+        viewCountService.recordView(1L);
+        viewCountService.recordView(1L);
+        when(viewCountRepository.addViewCounts(anyMap()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(1);
+
+        // when
+        viewCountService.flush();
+
+        // then
+        assertEquals(2L, viewCountService.getPendingCount(1L));
+        viewCountService.flush();
+        verify(viewCountRepository, times(2)).addViewCounts(Map.of(1L, 2L));
+        assertEquals(0L, viewCountService.getPendingCount(1L));
+    }
+
+    @Test
+    @DisplayName("조회가 없던 게시글은 대기 목록에서 정리")
+    void flush_EvictsIdlePosts() {
+        // given
+        viewCountService.recordView(1L);
+        viewCountService.flush();
+
+        // when
+        viewCountService.flush();
+
+        // then
+        assertEquals(0, viewCountService.getPendingPostCount());
+        verify(viewCountRepository, times(1)).addViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("대기 목록 정리와 겹친 조회도 잃지 않음")
+    void recordView_ConcurrentWithEviction() throws InterruptedException {
+        // given
+        AtomicLong written = new AtomicLong();
+        when(viewCountRepository.addViewCounts(anyMap())).thenAnswer(invocation -> {
+            Map<Long, Long> batch = invocation.getArgument(0);
+            batch.values().forEach(written::addAndGet);
+            return batch.size();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 20_000; j++) {
+                    viewCountService.recordView(1L);
+                    if (j % 100 == 0) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        while (!executor.isTerminated()) {
+            viewCountService.flush();
+        }
+        viewCountService.flush();
+
+        // then
+        assertEquals(80_000L, written.get());
+        assertEquals(0, viewCountService.getPendingPostCount());
+    }
+}
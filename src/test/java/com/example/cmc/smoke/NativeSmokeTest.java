@@ -0,0 +1,166 @@
+package com.example.cmc.smoke;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 실행 중인 인스턴스에 HTTP 로 요청해 서비스 테스트가 다루는 주요 흐름이 동작하는지 확인한다.
+// 네이티브 바이너리에서는 Mockito 기반 서비스 테스트를 돌릴 수 없으므로, 반사/리소스 힌트 누락을 이 경로로 잡는다.
+// ./gradlew nativeSmokeTest -PsmokeBaseUrl=http://localhost:8082
+@Tag("native-smoke")
+@DisplayName("네이티브 이미지 스모크 테스트")
+class NativeSmokeTest {
+
+    private static final String BASE_URL = System.getProperty("smoke.base-url", "http://localhost:8080");
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private HttpClient client;
+    private String email;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        email = "smoke-" + System.nanoTime() + "@example.com";
+        assertEquals(201, send("POST", "/api/auth/signup",
+                Map.of("email", email, "password", "password1", "nickname", "smoke")).statusCode());
+        assertEquals(200, send("POST", "/api/auth/login", Map.of("email", email, "password", "password1")).statusCode());
+    }
+
+    @Test
+    @DisplayName("로그인 사용자 조회")
+    void currentUser() throws Exception {
+        // when
+        JsonNode me = json(send("GET", "/api/auth/me", null), 200);
+
+        // then
+        assertEquals(email, me.get("email").asString());
+    }
+
+    @Test
+    @DisplayName("게시글 작성, 조건부 조회, 버전 충돌, 카테고리 피드, 삭제")
+    void postLifecycle() throws Exception {
+        // given
+        long categoryId = json(send("POST", "/api/categories/create", Map.of("name", "smoke-" + System.nanoTime())), 201)
+                .get("id").asLong();
+        long postId = createPost(List.of(categoryId));
+
+        // when & then
+        HttpResponse<String> detail = send("GET", "/api/posts/" + postId, null);
+        assertEquals(200, detail.statusCode());
+        String eTag = detail.headers().firstValue("ETag").orElseThrow();
+        assertEquals(304, send("GET", "/api/posts/" + postId, null, "If-None-Match", eTag).statusCode());
+
+        Map<String, Object> update = Map.of("title", "수정된 제목", "content", "수정된 내용", "categoryIds", List.of(categoryId));
+        assertEquals(409, send("PUT", "/api/posts/" + postId, update, "If-Match", "\"999\"").statusCode());
+        JsonNode updated = json(send("PUT", "/api/posts/" + postId, update), 200);
+        assertEquals("수정된 제목", updated.get("title").asString());
+
+        JsonNode feed = json(send("GET", "/api/posts/feed?categories=" + categoryId, null), 200);
+        assertEquals(postId, feed.get("items").get(0).get("id").asLong());
+
+        assertEquals(204, send("DELETE", "/api/posts/" + postId, null).statusCode());
+        assertEquals(404, send("GET", "/api/posts/" + postId, null).statusCode());
+    }
+
+    @Test
+    @DisplayName("댓글과 답글 스레드, 삭제 표시")
+    void commentThread() throws Exception {
+        // given
+        long postId = createPost(List.of());
+        long rootId = json(send("POST", "/api/comments/create",
+                Map.of("content", "댓글", "authorEmail", email, "postId", postId)), 201).get("id").asLong();
+        json(send("POST", "/api/comments/create",
+                Map.of("content", "답글", "authorEmail", email, "postId", postId, "parentId", rootId)), 201);
+
+        // when
+        JsonNode thread = json(send("GET", "/api/comments/" + rootId + "/thread", null), 200);
+        assertEquals(204, send("DELETE", "/api/comments/" + rootId + "?mode=tombstone", null).statusCode());
+        JsonNode comments = json(send("GET", "/api/comments/post/" + postId, null), 200);
+
+        // then
+        assertEquals(1, thread.get("descendantCount").asLong());
+        assertEquals(2, comments.size());
+        assertTrue(comments.get(0).get("deleted").asBoolean());
+    }
+
+    @Test
+    @DisplayName("북마크 토글과 목록")
+    void bookmarkToggle() throws Exception {
+        // given
+        long postId = createPost(List.of());
+        Map<String, Object> request = Map.of("userEmail", email, "postId", postId);
+
+        // when & then
+        assertTrue(json(send("PUT", "/api/bookmarks/toggle", request), 200).get("bookmarked").asBoolean());
+        JsonNode page = json(send("GET", "/api/bookmarks/user/" + email, null), 200);
+        assertEquals(postId, page.get("items").get(0).get("postId").asLong());
+        assertFalse(json(send("PUT", "/api/bookmarks/toggle", request), 200).get("bookmarked").asBoolean());
+    }
+
+    @Test
+    @DisplayName("트렌딩, 알림 피드 조회")
+    void readOnlyEndpoints() throws Exception {
+        // when & then
+        assertTrue(json(send("GET", "/api/posts/trending", null), 200).isArray());
+        assertTrue(json(send("GET", "/api/feed/me", null), 200).has("items"));
+    }
+
+    @Test
+    @DisplayName("Thymeleaf 게시글 상세 화면")
+    void postDetailPage() throws Exception {
+        // given
+        long postId = createPost(List.of());
+
+        // when
+        HttpResponse<String> page = send("GET", "/posts/" + postId, null);
+
+        // then
+        assertEquals(200, page.statusCode());
+        assertTrue(page.body().contains("스모크 게시글"));
+    }
+
+    private long createPost(List<Long> categoryIds) throws Exception {
+        Map<String, Object> request = Map.of(
+                "title", "스모크 게시글", "content", "내용", "authorEmail", email, "categoryIds", categoryIds);
+        return json(send("POST", "/api/posts/create", request), 201).get("id").asLong();
+    }
+
+    private HttpResponse<String> send(String method, String path, Object body, String... headers)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(BASE_URL + path))
+                .timeout(Duration.ofSeconds(10))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)));
+        if (body != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        if (headers.length > 0) {
+            builder.headers(headers);
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonNode json(HttpResponse<String> response, int expectedStatus) {
+        assertEquals(expectedStatus, response.statusCode(), response.body());
+        return JSON.readTree(response.body());
+    }
+}